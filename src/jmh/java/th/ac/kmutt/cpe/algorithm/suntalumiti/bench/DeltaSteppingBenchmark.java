@@ -0,0 +1,59 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical.DeltaSteppingSolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Maze;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.PathResult;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thread scaling of {@link DeltaSteppingSolver}. Every thread count settles
+ * the same cells, so the scores isolate the parallel relaxation speedup;
+ * {@code threads = 1} never touches a pool and is the sequential baseline.
+ * Pass {@code -p threads=1,2,...,N} to match the machine and
+ * {@code -p delta=...} to override the bucket width (0 derives it).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class DeltaSteppingBenchmark {
+    @Param({"1", "2", "4", "8", "16", "32"})
+    public int threads;
+
+    @Param({"1000", "2000"})
+    public int size;
+
+    @Param("0")
+    public int delta;
+
+    @Param("42")
+    public long seed;
+
+    private DeltaSteppingSolver solver;
+    private Maze loaded;
+
+    @Setup
+    public void setup() {
+        solver = new DeltaSteppingSolver(threads, delta);
+        loaded = MazeFixtures.generated(size, seed);
+    }
+
+    @Benchmark
+    public PathResult solve() {
+        return solver.solve(loaded);
+    }
+}
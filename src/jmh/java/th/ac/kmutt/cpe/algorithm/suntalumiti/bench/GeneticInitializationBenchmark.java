@@ -0,0 +1,83 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.bench;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.ga.GeneticConfig;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.ga.GeneticSolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.ga.InitializationStrategy;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Maze;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.PathResult;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generations-to-goal per initialization strategy. Each iteration is one
+ * seeded run with a fresh seed. The {@code goalGeneration} counter sums, over
+ * the measured iterations, the generation in which the goal was first reached
+ * ({@code generations} for runs that never reached it, which {@code failures}
+ * counts); divide by the iteration count for the mean.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 10)
+@Fork(1)
+public class GeneticInitializationBenchmark {
+    @Param({"UNIFORM", "WALL_AVOIDING", "GOAL_BIASED", "MIXED"})
+    public InitializationStrategy strategy;
+
+    @Param({"m50_50.txt", "m100_100.txt"})
+    public String maze;
+
+    @Param("500")
+    public int generations;
+
+    private Maze loaded;
+    private long seed;
+    private GeneticSolver solver;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class GoalCounters {
+        public long goalGeneration;
+        public long failures;
+    }
+
+    @Setup
+    public void setup() {
+        loaded = MazeFixtures.bundled(maze);
+    }
+
+    @Setup(Level.Iteration)
+    public void nextSeed() {
+        solver = new GeneticSolver(GeneticConfig.DEFAULT
+            .withSeed(++seed)
+            .withMaxGenerations(generations)
+            .withInitialization(strategy));
+    }
+
+    @Benchmark
+    public PathResult solve(GoalCounters counters) {
+        PathResult result = solver.solve(loaded);
+        long goalGeneration = result.getMetrics().getGoalGeneration();
+        if (goalGeneration < 0) {
+            counters.failures++;
+            counters.goalGeneration += generations;
+        } else {
+            counters.goalGeneration += goalGeneration;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,86 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.bench;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.ga.GeneticConfig;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.ga.GeneticSolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Maze;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.PathResult;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Seeded GA runs: results are identical at every parallelism level, so each
+ * level does the same work and the scores isolate the evaluation/breeding
+ * speedup.
+ * {@code parallelism = 0} uses every core. With {@code islands > 1} the
+ * islands run concurrently and {@code parallelism} above 1 caps their threads.
+ * Islands change the search itself, so the {@code solves}, {@code failures}
+ * and {@code goalGeneration} counters report its quality alongside the time:
+ * {@code goalGeneration / solves} is the mean generation in which the goal was
+ * first reached, counting {@code generations} for runs that never reached it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class GeneticSolverBenchmark {
+    @Param({"1", "2", "4", "8", "0"})
+    public int parallelism;
+
+    @Param({"m50_50.txt", "m100_100.txt"})
+    public String maze;
+
+    @Param({"1", "4"})
+    public int islands;
+
+    @Param("500")
+    public int generations;
+
+    private GeneticSolver solver;
+    private Maze loaded;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class GoalCounters {
+        public long solves;
+        public long failures;
+        public long goalGeneration;
+    }
+
+    @Setup
+    public void setup() {
+        solver = new GeneticSolver(GeneticConfig.DEFAULT
+            .withSeed(7L)
+            .withMaxGenerations(generations)
+            .withParallelism(parallelism)
+            .withIslandCount(islands));
+        loaded = MazeFixtures.bundled(maze);
+    }
+
+    @Benchmark
+    public PathResult solve(GoalCounters counters) {
+        PathResult result = solver.solve(loaded);
+        long goalGeneration = result.getMetrics().getGoalGeneration();
+        counters.solves++;
+        if (goalGeneration < 0) {
+            counters.failures++;
+            counters.goalGeneration += generations;
+        } else {
+            counters.goalGeneration += goalGeneration;
+        }
+        return result;
+    }
+}
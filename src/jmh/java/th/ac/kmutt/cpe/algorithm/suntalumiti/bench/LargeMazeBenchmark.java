@@ -0,0 +1,55 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.ISolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.cli.SolverRegistry;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Maze;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.PathResult;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Solvers against synthetic square mazes well beyond the bundled sizes. The
+ * GA is left out by default: it cannot reach the goal within its gene length
+ * on these grids, so it would only measure 3000 wasted generations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class LargeMazeBenchmark {
+    @Param({"astar", "astar-indexed", "astar-alt", "dijkstra", "dijkstra-bucket", "dijkstra-offheap", "dijkstra-bidirectional", "dijkstra-delta", "hpa-exact", "hpa-approximate"})
+    public String solver;
+
+    @Param({"500", "1000", "2000"})
+    public int size;
+
+    @Param("42")
+    public long seed;
+
+    private ISolver instance;
+    private Maze loaded;
+
+    @Setup
+    public void setup() {
+        instance = SolverRegistry.create(solver);
+        loaded = MazeFixtures.generated(size, seed);
+    }
+
+    @Benchmark
+    public PathResult solve() {
+        return instance.solve(loaded);
+    }
+}
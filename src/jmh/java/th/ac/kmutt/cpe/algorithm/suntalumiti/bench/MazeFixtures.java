@@ -0,0 +1,22 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.bench;
+
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Maze;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.MazeGenerator;
+
+final class MazeFixtures {
+    private MazeFixtures() {
+    }
+
+    static Maze bundled(String fileName) {
+        Maze maze = new Maze(fileName);
+        if (maze.getRows() == 0) {
+            throw new IllegalStateException("Bundled maze not found: " + fileName);
+        }
+        return maze;
+    }
+
+    /** Square random maze from {@link MazeGenerator}'s defaults; always solvable. */
+    static Maze generated(int size, long seed) {
+        return new MazeGenerator(size, size, seed).generate();
+    }
+}
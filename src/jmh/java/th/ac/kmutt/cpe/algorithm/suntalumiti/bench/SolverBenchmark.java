@@ -0,0 +1,51 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.ISolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.cli.SolverRegistry;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Maze;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.PathResult;
+
+import java.util.concurrent.TimeUnit;
+
+/** Every solver against every bundled {@code data/m*.txt} maze. */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SolverBenchmark {
+    @Param({"astar", "astar-indexed", "astar-alt", "dijkstra", "dijkstra-bucket", "dijkstra-bidirectional", "hpa-exact", "hpa-approximate", "genetic"})
+    public String solver;
+
+    @Param({
+        "m15_15.txt", "m24_20.txt", "m30_30.txt", "m33_35.txt", "m40_40.txt", "m40_45.txt", "m45_45.txt",
+        "m50_50.txt", "m60_60.txt", "m70_60.txt", "m80_50.txt", "m100_90.txt", "m100_100.txt"
+    })
+    public String maze;
+
+    private ISolver instance;
+    private Maze loaded;
+
+    @Setup
+    public void setup() {
+        instance = SolverRegistry.create(solver);
+        loaded = MazeFixtures.bundled(maze);
+    }
+
+    @Benchmark
+    public PathResult solve() {
+        return instance.solve(loaded);
+    }
+}
@@ -0,0 +1,50 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti;
+
+import java.time.Duration;
+
+/**
+ * Cooperative stop signal for long solves: cancelled explicitly with
+ * {@link #cancel()} or implicitly once its deadline passes. Solvers poll
+ * {@link #isCancelled()} every few hundred iterations and return a result
+ * marked {@link th.ac.kmutt.cpe.algorithm.suntalumiti.model.PathResult#isCancelled() cancelled}.
+ */
+public final class CancellationToken {
+    /** A token that is never cancelled. */
+    public static final CancellationToken NONE = new CancellationToken(false, Long.MAX_VALUE);
+
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private final boolean cancellable;
+    private final long deadlineNanos;
+    private volatile boolean cancelled;
+
+    public CancellationToken() {
+        this(true, NO_DEADLINE);
+    }
+
+    private CancellationToken(boolean cancellable, long deadlineNanos) {
+        this.cancellable = cancellable;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /** A token that cancels itself {@code timeout} from now. */
+    public static CancellationToken withTimeout(Duration timeout) {
+        return new CancellationToken(true, System.nanoTime() + timeout.toNanos());
+    }
+
+    public void cancel() {
+        if (!cancellable) {
+            throw new UnsupportedOperationException("CancellationToken.NONE cannot be cancelled");
+        }
+        cancelled = true;
+    }
+
+    /** False only for {@link #NONE}: every other token may be cancelled or time out. */
+    public boolean isCancellable() {
+        return cancellable;
+    }
+
+    public boolean isCancelled() {
+        return cancelled || (deadlineNanos != NO_DEADLINE && System.nanoTime() - deadlineNanos >= 0);
+    }
+}
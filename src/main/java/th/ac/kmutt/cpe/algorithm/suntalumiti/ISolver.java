@@ -2,8 +2,23 @@ package th.ac.kmutt.cpe.algorithm.suntalumiti;
 
 import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Maze;
 import th.ac.kmutt.cpe.algorithm.suntalumiti.model.PathResult;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.SearchMetrics;
+
+import java.util.Collections;
 
 public interface ISolver {
     PathResult solve(Maze maze);
     String getName();
+
+    /**
+     * Solves with cooperative cancellation and progress reporting. Solvers
+     * that do not override this only honour a token cancelled before they
+     * start.
+     */
+    default PathResult solve(Maze maze, CancellationToken token, ProgressListener progress) {
+        if (token.isCancelled()) {
+            return PathResult.cancelled(Collections.emptyList(), Integer.MAX_VALUE, getName(), SearchMetrics.NONE);
+        }
+        return solve(maze);
+    }
 }
@@ -0,0 +1,17 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti;
+
+/**
+ * Receives progress from a running solve. Calls come from the solving thread
+ * at the same cadence as cancellation checks, so implementations must be
+ * cheap and hand off to other threads themselves.
+ */
+@FunctionalInterface
+public interface ProgressListener {
+    ProgressListener NONE = (done, total) -> { };
+
+    /**
+     * @param done  work finished so far (expanded cells, generations)
+     * @param total upper bound on {@code done}; searches report the cell count
+     */
+    void onProgress(long done, long total);
+}
@@ -0,0 +1,29 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Fork-join pools shared by every solver that asks for the same
+ * parallelism, so configuring many solver instances does not leave one pool
+ * of idle threads behind per instance. Workers are daemon threads and retire
+ * after a short idle period, so the pools never need to be shut down.
+ */
+public final class WorkerPools {
+    private static final ConcurrentMap<Integer, ForkJoinPool> POOLS = new ConcurrentHashMap<>();
+
+    private WorkerPools() {
+    }
+
+    /** The common pool for {@code parallelism} 0, otherwise the shared pool with that many workers. */
+    public static ForkJoinPool forParallelism(int parallelism) {
+        if (parallelism < 0) {
+            throw new IllegalArgumentException("Parallelism must not be negative: " + parallelism);
+        }
+        if (parallelism == 0) {
+            return ForkJoinPool.commonPool();
+        }
+        return POOLS.computeIfAbsent(parallelism, ForkJoinPool::new);
+    }
+}
@@ -1,9 +1,14 @@
 package th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical;
 
+import th.ac.kmutt.cpe.algorithm.suntalumiti.CancellationToken;
 import th.ac.kmutt.cpe.algorithm.suntalumiti.ISolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.ProgressListener;
 import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Cell;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Grid;
 import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Maze;
 import th.ac.kmutt.cpe.algorithm.suntalumiti.model.PathResult;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.ReachabilityIndex;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.SearchMetrics;
 
 import java.util.*;
 
@@ -11,6 +16,7 @@ public class AStarSolver implements ISolver {
     private static final int[][] DIRECTIONS = {
         {0, 1}, {0, -1}, {1, 0}, {-1, 0}
     };
+    private static final int CHECK_INTERVAL_MASK = 0x3FF;
     
     @Override
     public String getName() {
@@ -19,11 +25,22 @@ public class AStarSolver implements ISolver {
 
     @Override
     public PathResult solve(Maze maze) {
-        long startTime = System.currentTimeMillis(); 
+        return solve(maze, CancellationToken.NONE, ProgressListener.NONE);
+    }
+
+    @Override
+    public PathResult solve(Maze maze, CancellationToken token, ProgressListener progress) {
+        try (Grid.Lease lease = maze.getGrid().acquire()) {
+            return search(maze, token, progress);
+        }
+    }
+
+    private PathResult search(Maze maze, CancellationToken token, ProgressListener progress) {
+        SearchMetrics.Probe probe = SearchMetrics.start();
         Cell start = maze.getStartCell();
         Cell goal = maze.getGoalCell();
-        if (start == null || goal == null) {
-            return createFailureResult(getName(), startTime);
+        if (!ReachabilityIndex.isSolvable(maze)) {
+            return PathResult.notFound(getName(), probe.search(0, 0, 0, 0));
         }
         PriorityQueue<AStarNode> openList = new PriorityQueue<>();
         Map<Cell, Integer> gCostMap = new HashMap<>();
@@ -32,9 +49,24 @@ public class AStarSolver implements ISolver {
         openList.add(startNode);
         gCostMap.put(start, 0);
         AStarNode finalNode = null;
+        long polled = 0;
+        long pushed = 1;
+        long stalePops = 0;
+        int peakOpen = 1;
         while (!openList.isEmpty()) {
+            if ((++polled & CHECK_INTERVAL_MASK) == 0) {
+                if (token.isCancelled()) {
+                    SearchMetrics metrics = probe.search(polled - 1 - stalePops, pushed, stalePops, peakOpen);
+                    return PathResult.cancelled(Collections.emptyList(), Integer.MAX_VALUE, getName(), metrics);
+                }
+                progress.onProgress(gCostMap.size(), maze.getCellCount());
+            }
             AStarNode current = openList.poll();
             Cell currentCell = current.cell;
+            if (current.gCost > gCostMap.get(currentCell)) {
+                stalePops++;
+                continue;
+            }
             if (currentCell.equals(goal)) {
                 finalNode = current;
                 break;
@@ -57,14 +89,16 @@ public class AStarSolver implements ISolver {
                         hNeighbor
                     );
                     openList.add(neighborNode);
+                    pushed++;
+                    peakOpen = Math.max(peakOpen, openList.size());
                 }
             }
         }
-        long endTime = System.currentTimeMillis();    
+        SearchMetrics metrics = probe.search(polled - stalePops, pushed, stalePops, peakOpen);
         if (finalNode != null) {
-            return reconstructPath(finalNode, startTime, endTime);
+            return reconstructPath(finalNode, metrics);
         } else {
-            return createFailureResult(getName(), startTime);
+            return PathResult.notFound(getName(), metrics);
         }
     }
     
@@ -72,7 +106,7 @@ public class AStarSolver implements ISolver {
         return Math.abs(current.getRow() - goal.getRow()) + Math.abs(current.getCol() - goal.getCol());
     }
 
-    private PathResult reconstructPath(AStarNode finalNode, long startTime, long endTime) {
+    private PathResult reconstructPath(AStarNode finalNode, SearchMetrics metrics) {
         List<Cell> path = new LinkedList<>();
         AStarNode current = finalNode;
         while (current != null) {
@@ -83,17 +117,7 @@ public class AStarSolver implements ISolver {
             path, 
             finalNode.gCost, 
             getName(), 
-            endTime - startTime
-        );
-    }
-
-    private PathResult createFailureResult(String algorithmName, long startTime) {
-        long endTime = System.currentTimeMillis();
-        return new PathResult(
-            Collections.emptyList(), 
-            Integer.MAX_VALUE, 
-            algorithmName, 
-            endTime - startTime
+            metrics
         );
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,297 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical;
+
+import th.ac.kmutt.cpe.algorithm.suntalumiti.CancellationToken;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.ISolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.ProgressListener;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Grid;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Maze;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.PathResult;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.ReachabilityIndex;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.SearchMetrics;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Anytime Repairing A* (Likhachev, Gordon &amp; Thrun). The first search runs
+ * with the heuristic inflated by {@code initialWeight} and finds a path whose
+ * cost is at most that factor above optimal, usually after far fewer
+ * expansions than plain A*. The weight then drops by {@code weightStep} per
+ * round; each round keeps the g-costs of the previous one and only re-expands
+ * cells whose cost improved, until a round at weight 1 proves the path
+ * optimal or the token's deadline passes.
+ *
+ * <p>{@link #solveAnytime} publishes every improved path together with its
+ * suboptimality bound; a run stopped by the token returns the best path so
+ * far, marked as cancelled.
+ */
+public class AnytimeAStarSolver implements ISolver {
+    public static final double DEFAULT_INITIAL_WEIGHT = 3.0;
+    public static final double DEFAULT_WEIGHT_STEP = 0.5;
+
+    /** Receives each result that is cheaper, or more tightly bounded, than the previous one. */
+    @FunctionalInterface
+    public interface ImprovementListener {
+        ImprovementListener NONE = (result, bound) -> { };
+
+        /** {@code bound} &ge; 1: the path costs at most {@code bound} times the optimum. */
+        void onImprovement(PathResult result, double bound);
+    }
+
+    private static final ThreadLocal<SearchContext> CONTEXT = ThreadLocal.withInitial(SearchContext::new);
+    private static final int CHECK_INTERVAL_MASK = 0x3FF;
+    private static final int WEIGHT_SCALE = 1000;
+
+    private final HeuristicProvider heuristics;
+    private final double initialWeight;
+    private final double weightStep;
+
+    public AnytimeAStarSolver() {
+        this(HeuristicProvider.MANHATTAN, DEFAULT_INITIAL_WEIGHT, DEFAULT_WEIGHT_STEP);
+    }
+
+    public AnytimeAStarSolver(HeuristicProvider heuristics, double initialWeight, double weightStep) {
+        if (initialWeight < 1.0 || weightStep <= 0.0) {
+            throw new IllegalArgumentException("Weight must start at 1 or above and step down by a positive amount");
+        }
+        this.heuristics = heuristics;
+        this.initialWeight = initialWeight;
+        this.weightStep = weightStep;
+    }
+
+    @Override
+    public String getName() {
+        return "ARA* (Anytime)";
+    }
+
+    @Override
+    public PathResult solve(Maze maze) {
+        return solveAnytime(maze, CancellationToken.NONE, ImprovementListener.NONE);
+    }
+
+    /** Reports one step of progress per completed round. */
+    @Override
+    public PathResult solve(Maze maze, CancellationToken token, ProgressListener progress) {
+        return search(maze, token, progress, ImprovementListener.NONE);
+    }
+
+    /** Searches until the path is proven optimal or {@code token} is cancelled. */
+    public PathResult solveAnytime(Maze maze, CancellationToken token, ImprovementListener listener) {
+        return search(maze, token, ProgressListener.NONE, listener);
+    }
+
+    private PathResult search(Maze maze, CancellationToken token, ProgressListener progress, ImprovementListener listener) {
+        try (Grid.Lease lease = maze.getGrid().acquire()) {
+            return searchRounds(maze, token, progress, listener);
+        }
+    }
+
+    private PathResult searchRounds(Maze maze, CancellationToken token, ProgressListener progress, ImprovementListener listener) {
+        SearchMetrics.Probe probe = SearchMetrics.start();
+        int start = maze.getStartIndex();
+        int goal = maze.getGoalIndex();
+        if (!ReachabilityIndex.isSolvable(maze)) {
+            return PathResult.notFound(getName(), probe.search(0, 0, 0, 0));
+        }
+        Search search = new Search(maze, heuristics.forGoal(maze, goal), token);
+        PathResult best = null;
+        double bestBound = Double.POSITIVE_INFINITY;
+        double weight = initialWeight;
+        int rounds = (int) Math.ceil((initialWeight - 1.0) / weightStep) + 1;
+        for (int round = 0; !token.isCancelled(); round++) {
+            if (!search.improvePath(weightKey(weight), start)) {
+                break;
+            }
+            if (search.goalCost() == SearchContext.UNREACHED) {
+                return PathResult.notFound(getName(), search.metrics(probe));
+            }
+            double bound = Math.min(weight, search.bound());
+            if (best == null || search.pathCost() < best.getTotalCost()) {
+                best = search.result(getName(), probe);
+                bestBound = bound;
+                listener.onImprovement(best, bound);
+            } else if (bound < bestBound) {
+                bestBound = bound;
+                listener.onImprovement(new PathResult(best.getPath(), best.getTotalCost(), getName(), search.metrics(probe)), bound);
+            }
+            if (bound <= 1.0) {
+                return new PathResult(best.getPath(), best.getTotalCost(), getName(), search.metrics(probe));
+            }
+            progress.onProgress(round + 1, rounds);
+            weight = Math.max(1.0, weight - weightStep);
+            search.beginRound(weightKey(weight));
+        }
+        SearchMetrics metrics = search.metrics(probe);
+        if (best == null) {
+            return PathResult.cancelled(Collections.emptyList(), Integer.MAX_VALUE, getName(), metrics);
+        }
+        return PathResult.cancelled(best.getPath(), best.getTotalCost(), getName(), metrics);
+    }
+
+    private static long weightKey(double weight) {
+        return Math.round(weight * WEIGHT_SCALE);
+    }
+
+    /** g-costs, the open list and the inconsistent set, carried across rounds. */
+    private static final class Search {
+        private final Maze maze;
+        private final Grid grid;
+        private final Heuristic heuristic;
+        private final CancellationToken token;
+        private final SearchContext context;
+        private final IndexedMinHeap openList;
+        private final int goal;
+        private final int[] closedRound;
+        private final boolean[] inconsistent;
+        private int[] inconsistentCells = new int[16];
+        private int inconsistentCount;
+        private int round = 1;
+        private long scaledWeight;
+        private long expanded;
+        private long pushed;
+        private int peakOpen;
+        private long polled;
+
+        Search(Maze maze, Heuristic heuristic, CancellationToken token) {
+            this.maze = maze;
+            this.grid = maze.getGrid();
+            this.heuristic = heuristic;
+            this.token = token;
+            this.goal = maze.getGoalIndex();
+            this.context = CONTEXT.get();
+            context.reset(grid.size());
+            this.openList = context.heap();
+            this.closedRound = new int[grid.size()];
+            this.inconsistent = new boolean[grid.size()];
+        }
+
+        int goalCost() {
+            return context.distance(goal);
+        }
+
+        /** Expands cells until none in the open list could improve the goal; false if cancelled. */
+        boolean improvePath(long weight, int start) {
+            scaledWeight = weight;
+            if (!context.isReached(start)) {
+                context.update(start, 0, SearchContext.NO_PARENT);
+                push(start);
+            }
+            while (!openList.isEmpty() && goalKey() > openList.peekKey()) {
+                if ((++polled & CHECK_INTERVAL_MASK) == 0 && token.isCancelled()) {
+                    return false;
+                }
+                int current = openList.poll();
+                closedRound[current] = round;
+                expanded++;
+                int currentCost = context.distance(current);
+                for (int direction = 0; direction < Grid.DIRECTION_COUNT; direction++) {
+                    int neighbor = grid.neighbor(current, direction);
+                    if (neighbor == Grid.NO_CELL) {
+                        continue;
+                    }
+                    int tentativeGCost = currentCost + grid.getCost(neighbor);
+                    if (tentativeGCost >= context.distance(neighbor)) {
+                        continue;
+                    }
+                    context.update(neighbor, tentativeGCost, current);
+                    if (closedRound[neighbor] != round) {
+                        push(neighbor);
+                    } else if (!inconsistent[neighbor]) {
+                        markInconsistent(neighbor);
+                    }
+                }
+            }
+            return true;
+        }
+
+        /** Moves the inconsistent cells back into the open list and re-keys it for the new weight. */
+        void beginRound(long weight) {
+            scaledWeight = weight;
+            round++;
+            int[] open = new int[openList.size()];
+            for (int i = 0; i < open.length; i++) {
+                open[i] = openList.poll();
+            }
+            for (int cell : open) {
+                reinsert(cell);
+            }
+            for (int i = 0; i < inconsistentCount; i++) {
+                inconsistent[inconsistentCells[i]] = false;
+                push(inconsistentCells[i]);
+            }
+            inconsistentCount = 0;
+        }
+
+        /**
+         * {@code g(goal) / min(g + h)} over every cell that could still
+         * improve: an admissible heuristic makes that minimum a lower bound on
+         * the optimal cost.
+         */
+        double bound() {
+            long lowest = Long.MAX_VALUE;
+            for (int i = 0; i < inconsistentCount; i++) {
+                lowest = Math.min(lowest, unweightedF(inconsistentCells[i]));
+            }
+            int[] open = new int[openList.size()];
+            for (int i = 0; i < open.length; i++) {
+                open[i] = openList.poll();
+                lowest = Math.min(lowest, unweightedF(open[i]));
+            }
+            for (int cell : open) {
+                reinsert(cell);
+            }
+            if (lowest >= goalCost()) {
+                return 1.0;
+            }
+            return lowest == 0 ? Double.POSITIVE_INFINITY : (double) goalCost() / lowest;
+        }
+
+        /**
+         * Cost of the parent chain from the goal. Cells improved but not yet
+         * re-expanded this round can make it cheaper than {@code g(goal)}.
+         */
+        int pathCost() {
+            int cost = 0;
+            for (int cell = goal; context.parent(cell) != SearchContext.NO_PARENT; cell = context.parent(cell)) {
+                cost += grid.getCost(cell);
+            }
+            return cost;
+        }
+
+        PathResult result(String name, SearchMetrics.Probe probe) {
+            return new PathResult(context.buildPath(maze, goal), pathCost(), name, metrics(probe));
+        }
+
+        SearchMetrics metrics(SearchMetrics.Probe probe) {
+            return probe.search(expanded, pushed, 0, peakOpen);
+        }
+
+        private long unweightedF(int cell) {
+            return (long) context.distance(cell) + heuristic.estimate(cell);
+        }
+
+        private long goalKey() {
+            int cost = goalCost();
+            return cost == SearchContext.UNREACHED ? Long.MAX_VALUE : (long) cost * WEIGHT_SCALE;
+        }
+
+        private void push(int cell) {
+            reinsert(cell);
+            pushed++;
+            peakOpen = Math.max(peakOpen, openList.size());
+        }
+
+        private void reinsert(int cell) {
+            long key = (long) context.distance(cell) * WEIGHT_SCALE + scaledWeight * heuristic.estimate(cell);
+            openList.insertOrDecrease(cell, key);
+        }
+
+        private void markInconsistent(int cell) {
+            inconsistent[cell] = true;
+            if (inconsistentCount == inconsistentCells.length) {
+                inconsistentCells = Arrays.copyOf(inconsistentCells, inconsistentCount * 2);
+            }
+            inconsistentCells[inconsistentCount++] = cell;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical;
+
+import th.ac.kmutt.cpe.algorithm.suntalumiti.ISolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Cell;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Grid;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Maze;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.PathResult;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.ReachabilityIndex;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.SearchMetrics;
+
+import java.util.List;
+
+/**
+ * Dijkstra run from start and goal at once, always expanding the side with
+ * the smaller open list.
+ *
+ * <p>Cost is paid on entering a cell, so the step u&rarr;v costs
+ * {@code cost(v)}. The forward label of a cell is the cost to reach it from
+ * the start; the backward label is the cost from it to the goal, which
+ * excludes its own cost. A cell labelled from both sides therefore closes a
+ * path of cost {@code forward + backward}. The search stops once the two
+ * smallest open keys add up to at least the best such path.
+ */
+public class BidirectionalDijkstraSolver implements ISolver {
+    private static final ThreadLocal<SearchContext> FORWARD = ThreadLocal.withInitial(SearchContext::new);
+    private static final ThreadLocal<SearchContext> BACKWARD = ThreadLocal.withInitial(SearchContext::new);
+
+    @Override
+    public String getName() {
+        return "Bidirectional Dijkstra";
+    }
+
+    @Override
+    public PathResult solve(Maze maze) {
+        try (Grid.Lease lease = maze.getGrid().acquire()) {
+            return search(maze);
+        }
+    }
+
+    private PathResult search(Maze maze) {
+        SearchMetrics.Probe probe = SearchMetrics.start();
+        int start = maze.getStartIndex();
+        int goal = maze.getGoalIndex();
+        if (!ReachabilityIndex.isSolvable(maze)) {
+            return PathResult.notFound(getName(), probe.search(0, 0, 0, 0));
+        }
+        Grid grid = maze.getGrid();
+        SearchContext forward = FORWARD.get();
+        SearchContext backward = BACKWARD.get();
+        forward.reset(grid.size());
+        backward.reset(grid.size());
+        IndexedMinHeap forwardOpen = forward.heap();
+        IndexedMinHeap backwardOpen = backward.heap();
+
+        forward.update(start, 0, SearchContext.NO_PARENT);
+        forwardOpen.insertOrDecrease(start, 0);
+        backward.update(goal, 0, SearchContext.NO_PARENT);
+        backwardOpen.insertOrDecrease(goal, 0);
+
+        long best = start == goal ? 0 : Long.MAX_VALUE;
+        int meeting = start == goal ? start : Grid.NO_CELL;
+        long expanded = 0;
+        long pushed = 2;
+        int peakOpen = 2;
+        while (!forwardOpen.isEmpty() && !backwardOpen.isEmpty()
+                && forwardOpen.peekKey() + backwardOpen.peekKey() < best) {
+            peakOpen = Math.max(peakOpen, forwardOpen.size() + backwardOpen.size());
+            if (forwardOpen.size() <= backwardOpen.size()) {
+                int current = forwardOpen.poll();
+                expanded++;
+                int distance = forward.distance(current);
+                for (int direction = 0; direction < Grid.DIRECTION_COUNT; direction++) {
+                    int neighbor = grid.neighbor(current, direction);
+                    if (neighbor == Grid.NO_CELL) {
+                        continue;
+                    }
+                    int newDistance = distance + grid.getCost(neighbor);
+                    if (newDistance < forward.distance(neighbor)) {
+                        forward.update(neighbor, newDistance, current);
+                        forwardOpen.insertOrDecrease(neighbor, newDistance);
+                        pushed++;
+                        if (backward.isReached(neighbor) && (long) newDistance + backward.distance(neighbor) < best) {
+                            best = (long) newDistance + backward.distance(neighbor);
+                            meeting = neighbor;
+                        }
+                    }
+                }
+            } else {
+                int current = backwardOpen.poll();
+                expanded++;
+                int distance = backward.distance(current) + grid.getCost(current);
+                for (int direction = 0; direction < Grid.DIRECTION_COUNT; direction++) {
+                    int neighbor = grid.neighbor(current, direction);
+                    if (neighbor == Grid.NO_CELL) {
+                        continue;
+                    }
+                    if (distance < backward.distance(neighbor)) {
+                        backward.update(neighbor, distance, current);
+                        backwardOpen.insertOrDecrease(neighbor, distance);
+                        pushed++;
+                        if (forward.isReached(neighbor) && (long) distance + forward.distance(neighbor) < best) {
+                            best = (long) distance + forward.distance(neighbor);
+                            meeting = neighbor;
+                        }
+                    }
+                }
+            }
+        }
+        SearchMetrics metrics = probe.search(expanded, pushed, 0, peakOpen);
+        if (meeting == Grid.NO_CELL) {
+            return PathResult.notFound(getName(), metrics);
+        }
+        List<Cell> path = forward.buildPath(maze, meeting);
+        for (int current = backward.parent(meeting); current != SearchContext.NO_PARENT; current = backward.parent(current)) {
+            path.add(maze.getCell(current));
+        }
+        return new PathResult(path, (int) best, getName(), metrics);
+    }
+}
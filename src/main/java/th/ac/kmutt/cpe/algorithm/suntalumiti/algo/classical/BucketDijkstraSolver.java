@@ -0,0 +1,140 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical;
+
+import th.ac.kmutt.cpe.algorithm.suntalumiti.ISolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Grid;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Maze;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.PathResult;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.ReachabilityIndex;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.SearchMetrics;
+
+/**
+ * Dijkstra over int cell ids with a monotone integer queue instead of a
+ * comparison heap. Dial's circular buckets are used when the largest cell
+ * cost is small, a radix heap otherwise. Both hold only the frontier, so with
+ * {@link Storage#OFF_HEAP} the per-cell state lives in a
+ * {@link DirectSearchState} that is freed as soon as the path is built.
+ */
+public class BucketDijkstraSolver implements ISolver {
+    public enum QueueKind { AUTO, DIAL, RADIX }
+
+    public enum Storage { HEAP, OFF_HEAP }
+
+    public static final int DIAL_MAX_COST = 64;
+
+    private static final ThreadLocal<SearchContext> CONTEXT = ThreadLocal.withInitial(SearchContext::new);
+    private static final ThreadLocal<DialQueue> DIAL_QUEUE = ThreadLocal.withInitial(DialQueue::new);
+    private static final ThreadLocal<RadixHeap> RADIX_HEAP = ThreadLocal.withInitial(RadixHeap::new);
+
+    private final QueueKind queueKind;
+    private final Storage storage;
+
+    public BucketDijkstraSolver() {
+        this(QueueKind.AUTO);
+    }
+
+    public BucketDijkstraSolver(QueueKind queueKind) {
+        this(queueKind, Storage.HEAP);
+    }
+
+    public BucketDijkstraSolver(QueueKind queueKind, Storage storage) {
+        this.queueKind = queueKind;
+        this.storage = storage;
+    }
+
+    @Override
+    public String getName() {
+        String name = queueKind == QueueKind.AUTO
+            ? "Dijkstra's Algorithm (Bucket Queue"
+            : "Dijkstra's Algorithm (" + (queueKind == QueueKind.DIAL ? "Dial" : "Radix Heap");
+        return name + (storage == Storage.OFF_HEAP ? ", Off-Heap)" : ")");
+    }
+
+    @Override
+    public PathResult solve(Maze maze) {
+        try (Grid.Lease lease = maze.getGrid().acquire()) {
+            return search(maze);
+        }
+    }
+
+    private PathResult search(Maze maze) {
+        SearchMetrics.Probe probe = SearchMetrics.start();
+        if (!ReachabilityIndex.isSolvable(maze)) {
+            return PathResult.notFound(getName(), probe.search(0, 0, 0, 0));
+        }
+        Grid grid = maze.getGrid();
+        if (storage == Storage.OFF_HEAP) {
+            try (DirectSearchState state = new DirectSearchState(grid.size())) {
+                return search(maze, state, probe);
+            }
+        }
+        SearchContext context = CONTEXT.get();
+        context.reset(grid.size());
+        return search(maze, context, probe);
+    }
+
+    private PathResult search(Maze maze, SearchState context, SearchMetrics.Probe probe) {
+        Grid grid = maze.getGrid();
+        int start = maze.getStartIndex();
+        int goal = maze.getGoalIndex();
+        MonotoneQueue queue = selectQueue(maze);
+
+        context.update(start, 0, SearchContext.NO_PARENT);
+        queue.push(start, 0);
+        boolean found = false;
+        long polled = 0;
+        long pushed = 1;
+        long stalePops = 0;
+        int peakOpen = 1;
+        while (!queue.isEmpty()) {
+            int current = queue.pop();
+            int distance = queue.lastKey();
+            polled++;
+            if (distance > context.distance(current)) {
+                stalePops++;
+                continue;
+            }
+            if (current == goal) {
+                found = true;
+                break;
+            }
+            for (int direction = 0; direction < Grid.DIRECTION_COUNT; direction++) {
+                int neighbor = grid.neighbor(current, direction);
+                if (neighbor == Grid.NO_CELL) {
+                    continue;
+                }
+                int newDistance = distance + grid.getCost(neighbor);
+                if (newDistance < context.distance(neighbor)) {
+                    context.update(neighbor, newDistance, current);
+                    queue.push(neighbor, newDistance);
+                    pushed++;
+                    peakOpen = Math.max(peakOpen, queue.size());
+                }
+            }
+        }
+        SearchMetrics metrics = probe.search(polled - stalePops, pushed, stalePops, peakOpen);
+        if (!found) {
+            return PathResult.notFound(getName(), metrics);
+        }
+        return new PathResult(context.buildPath(maze, goal), context.distance(goal), getName(), metrics);
+    }
+
+    private MonotoneQueue selectQueue(Maze maze) {
+        QueueKind kind = queueKind;
+        int maxCost = 0;
+        if (kind != QueueKind.RADIX) {
+            maxCost = maze.getMaxCost();
+            if (kind == QueueKind.AUTO) {
+                kind = maxCost <= DIAL_MAX_COST ? QueueKind.DIAL : QueueKind.RADIX;
+            }
+        }
+        if (kind == QueueKind.DIAL) {
+            DialQueue dial = DIAL_QUEUE.get();
+            dial.reset(maxCost);
+            return dial;
+        }
+        RadixHeap radix = RADIX_HEAP.get();
+        radix.clear();
+        return radix;
+    }
+
+}
@@ -0,0 +1,183 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical;
+
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Cell;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Grid;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Maze;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Travel costs between every source and every target of one maze. Each
+ * source runs a single one-to-many Dijkstra that stops once all targets are
+ * settled; sources are searched in parallel. Costs follow the solvers'
+ * convention (a move pays the cost of the cell it enters).
+ *
+ * <p>With {@code retainPaths}, the shortest path to each target is copied
+ * out of the source's search tree before the next search reuses it.
+ */
+public final class CostMatrix {
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private static final ThreadLocal<SearchContext> CONTEXT = ThreadLocal.withInitial(SearchContext::new);
+
+    private final Maze maze;
+    private final int[] sources;
+    private final int[] targets;
+    private final int[] costs;
+    private final int[][] paths;
+
+    private CostMatrix(Maze maze, int[] sources, int[] targets, int[] costs, int[][] paths) {
+        this.maze = maze;
+        this.sources = sources;
+        this.targets = targets;
+        this.costs = costs;
+        this.paths = paths;
+    }
+
+    public static CostMatrix compute(Maze maze, int[] sources, int[] targets) {
+        return compute(maze, sources, targets, false);
+    }
+
+    public static CostMatrix compute(Maze maze, int[] sources, int[] targets, boolean retainPaths) {
+        Grid grid = maze.getGrid();
+        sources = sources.clone();
+        targets = targets.clone();
+        checkCells(grid, sources, "source");
+        checkCells(grid, targets, "target");
+
+        boolean[] isTarget = new boolean[grid.size()];
+        int distinctTargets = 0;
+        for (int target : targets) {
+            if (!isTarget[target]) {
+                isTarget[target] = true;
+                distinctTargets++;
+            }
+        }
+
+        int m = targets.length;
+        int[] costs = new int[sources.length * m];
+        int[][] paths = retainPaths ? new int[sources.length * m][] : null;
+        int remaining = distinctTargets;
+        int[] sourceCells = sources;
+        int[] targetCells = targets;
+        try (Grid.Lease lease = grid.acquire()) {
+            IntStream.range(0, sources.length).parallel().forEach(i -> {
+                SearchContext context = CONTEXT.get();
+                search(grid, context, sourceCells[i], isTarget, remaining);
+                for (int j = 0; j < m; j++) {
+                    int target = targetCells[j];
+                    costs[i * m + j] = context.distance(target);
+                    if (paths != null) {
+                        paths[i * m + j] = trace(context, target);
+                    }
+                }
+            });
+        }
+        return new CostMatrix(maze, sources, targets, costs, paths);
+    }
+
+    /** Dijkstra from {@code source} until {@code targetCount} distinct targets are settled. */
+    private static void search(Grid grid, SearchContext context, int source, boolean[] isTarget, int targetCount) {
+        context.reset(grid.size());
+        IndexedMinHeap openList = context.heap();
+        context.update(source, 0, SearchContext.NO_PARENT);
+        openList.insertOrDecrease(source, 0);
+        int remaining = targetCount;
+        while (!openList.isEmpty()) {
+            int current = openList.poll();
+            if (isTarget[current] && --remaining == 0) {
+                return;
+            }
+            int currentCost = context.distance(current);
+            for (int direction = 0; direction < Grid.DIRECTION_COUNT; direction++) {
+                int neighbor = grid.neighbor(current, direction);
+                if (neighbor == Grid.NO_CELL) {
+                    continue;
+                }
+                int tentative = currentCost + grid.getCost(neighbor);
+                if (tentative < context.distance(neighbor)) {
+                    context.update(neighbor, tentative, current);
+                    openList.insertOrDecrease(neighbor, tentative);
+                }
+            }
+        }
+    }
+
+    private static int[] trace(SearchContext context, int target) {
+        if (!context.isReached(target)) {
+            return null;
+        }
+        int length = 0;
+        for (int current = target; current != SearchContext.NO_PARENT; current = context.parent(current)) {
+            length++;
+        }
+        int[] path = new int[length];
+        for (int current = target; current != SearchContext.NO_PARENT; current = context.parent(current)) {
+            path[--length] = current;
+        }
+        return path;
+    }
+
+    private static void checkCells(Grid grid, int[] cells, String role) {
+        for (int cell : cells) {
+            if (cell < 0 || cell >= grid.size() || grid.isWall(cell)) {
+                throw new IllegalArgumentException("Invalid " + role + " cell: " + cell);
+            }
+        }
+    }
+
+    public int getSourceCount() {
+        return sources.length;
+    }
+
+    public int getTargetCount() {
+        return targets.length;
+    }
+
+    public int getSource(int i) {
+        return sources[i];
+    }
+
+    public int getTarget(int j) {
+        return targets[j];
+    }
+
+    /** Cost from source {@code i} to target {@code j}, or {@link #UNREACHABLE}. */
+    public int cost(int i, int j) {
+        return costs[index(i, j)];
+    }
+
+    public boolean isReachable(int i, int j) {
+        return cost(i, j) != UNREACHABLE;
+    }
+
+    public boolean hasPaths() {
+        return paths != null;
+    }
+
+    /** Shortest path from source {@code i} to target {@code j}, start-first; empty if unreachable. */
+    public List<Cell> getPath(int i, int j) {
+        if (paths == null) {
+            throw new IllegalStateException("Paths were not retained for this matrix");
+        }
+        int[] cells = paths[index(i, j)];
+        if (cells == null) {
+            return Collections.emptyList();
+        }
+        List<Cell> path = new ArrayList<>(cells.length);
+        for (int cell : cells) {
+            path.add(maze.getCell(cell));
+        }
+        return path;
+    }
+
+    private int index(int i, int j) {
+        if (i < 0 || i >= sources.length || j < 0 || j >= targets.length) {
+            throw new IndexOutOfBoundsException("(" + i + ", " + j + ")");
+        }
+        return i * targets.length + j;
+    }
+}
@@ -0,0 +1,314 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical;
+
+import th.ac.kmutt.cpe.algorithm.suntalumiti.CancellationToken;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.ISolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.ProgressListener;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.WorkerPools;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Grid;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Maze;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.PathResult;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.ReachabilityIndex;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.SearchMetrics;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+/**
+ * Delta-stepping (Meyer &amp; Sanders): Dijkstra that settles a whole bucket
+ * of distances {@code [i * delta, (i + 1) * delta)} at a time. The cells of
+ * the current bucket relax their light edges (into cells costing at most
+ * {@code delta}) concurrently, phase after phase, until the bucket stops
+ * refilling; then every cell settled in it relaxes its heavy edges once.
+ *
+ * <p>Each label is one packed (distance, parent) word updated by
+ * compare-and-set, so any interleaving ends with the same optimal distances
+ * as {@link DijkstraSolver}. Phases smaller than {@link #CHUNK_SIZE} cells run
+ * on the calling thread; bucket bookkeeping is always sequential.
+ */
+public class DeltaSteppingSolver implements ISolver {
+    /** Cells relaxed per fork-join task. */
+    public static final int CHUNK_SIZE = 1024;
+
+    private final int parallelism;
+    private final int delta;
+
+    public DeltaSteppingSolver() {
+        this(0, 0);
+    }
+
+    public DeltaSteppingSolver(int parallelism) {
+        this(parallelism, 0);
+    }
+
+    /**
+     * {@code parallelism} 0 uses the common pool and 1 stays on the calling
+     * thread; {@code delta} 0 derives the bucket width from the maze's costs.
+     */
+    public DeltaSteppingSolver(int parallelism, int delta) {
+        if (parallelism < 0 || delta < 0) {
+            throw new IllegalArgumentException("Parallelism and delta must not be negative");
+        }
+        this.parallelism = parallelism;
+        this.delta = delta;
+    }
+
+    /**
+     * Half the largest cell cost: wide enough that a bucket holds several
+     * rings of the frontier, narrow enough that few cells are relaxed twice.
+     */
+    public static int bucketWidth(int maxCost) {
+        return Math.max(1, maxCost / 2);
+    }
+
+    @Override
+    public String getName() {
+        return "Delta-Stepping (Parallel Dijkstra)";
+    }
+
+    @Override
+    public PathResult solve(Maze maze) {
+        return solve(maze, CancellationToken.NONE, ProgressListener.NONE);
+    }
+
+    /** Checks the token once per bucket. */
+    @Override
+    public PathResult solve(Maze maze, CancellationToken token, ProgressListener progress) {
+        try (Grid.Lease lease = maze.getGrid().acquire()) {
+            return search(maze, token, progress);
+        }
+    }
+
+    private PathResult search(Maze maze, CancellationToken token, ProgressListener progress) {
+        SearchMetrics.Probe probe = SearchMetrics.start();
+        int start = maze.getStartIndex();
+        int goal = maze.getGoalIndex();
+        if (!ReachabilityIndex.isSolvable(maze)) {
+            return PathResult.notFound(getName(), probe.search(0, 0, 0, 0));
+        }
+        Grid grid = maze.getGrid();
+        int maxCost = maze.getMaxCost();
+        int width = delta > 0 ? delta : bucketWidth(maxCost);
+        Labels labels = new Labels(grid.size());
+        Buckets buckets = new Buckets(maxCost / width + 2);
+        int[] seenInPhase = new int[grid.size()];
+        int phase = 0;
+        IntList current = new IntList();
+        IntList frontier = new IntList();
+        IntList settled = new IntList();
+
+        labels.update(start, 0, SearchState.NO_PARENT);
+        buckets.add(0, start);
+        boolean found = false;
+        long expanded = 0;
+        long pushed = 1;
+        long stale = 0;
+        int peakOpen = 1;
+        for (int bucket = 0; !buckets.isEmpty(); bucket++) {
+            if (token.isCancelled()) {
+                return PathResult.cancelled(Collections.emptyList(), Integer.MAX_VALUE, getName(),
+                    probe.search(expanded, pushed, stale, peakOpen));
+            }
+            current = buckets.swap(bucket, current);
+            settled.clear();
+            while (current.size() > 0) {
+                phase++;
+                frontier.clear();
+                for (int i = 0; i < current.size(); i++) {
+                    int cell = current.get(i);
+                    if (seenInPhase[cell] != phase && labels.distance(cell) / width == bucket) {
+                        seenInPhase[cell] = phase;
+                        frontier.add(cell);
+                    } else {
+                        stale++;
+                    }
+                }
+                expanded += frontier.size();
+                settled.addAll(frontier);
+                pushed += relax(grid, labels, frontier, width, true, buckets);
+                current.clear();
+                current = buckets.swap(bucket, current);
+            }
+            int goalDistance = labels.distance(goal);
+            if (goalDistance != SearchState.UNREACHED && goalDistance / width <= bucket) {
+                found = true;
+                break;
+            }
+            pushed += relax(grid, labels, settled, width, false, buckets);
+            peakOpen = Math.max(peakOpen, buckets.size());
+        }
+        SearchMetrics metrics = probe.search(expanded, pushed, stale, peakOpen);
+        if (!found) {
+            return PathResult.notFound(getName(), metrics);
+        }
+        return new PathResult(labels.buildPath(maze, goal), labels.distance(goal), getName(), metrics);
+    }
+
+    /** Relaxes the light or heavy edges out of {@code cells} and files every improved cell; returns how many. */
+    private int relax(Grid grid, Labels labels, IntList cells, int width, boolean light, Buckets buckets) {
+        int count = cells.size();
+        IntList[] improved;
+        if (parallelism == 1 || count < CHUNK_SIZE) {
+            improved = new IntList[] {new IntList()};
+            relaxRange(grid, labels, cells, 0, count, width, light, improved[0]);
+        } else {
+            improved = new IntList[(count + CHUNK_SIZE - 1) / CHUNK_SIZE];
+            pool().submit(() -> IntStream.range(0, improved.length).parallel().forEach(chunk -> {
+                improved[chunk] = new IntList();
+                int from = chunk * CHUNK_SIZE;
+                relaxRange(grid, labels, cells, from, Math.min(count, from + CHUNK_SIZE), width, light, improved[chunk]);
+            })).join();
+        }
+        int filed = 0;
+        for (IntList list : improved) {
+            for (int i = 0; i < list.size(); i++) {
+                int cell = list.get(i);
+                buckets.add(labels.distance(cell) / width, cell);
+            }
+            filed += list.size();
+        }
+        return filed;
+    }
+
+    private static void relaxRange(Grid grid, Labels labels, IntList cells, int from, int to, int width,
+                                   boolean light, IntList improved) {
+        for (int i = from; i < to; i++) {
+            int cell = cells.get(i);
+            int distance = labels.distance(cell);
+            for (int direction = 0; direction < Grid.DIRECTION_COUNT; direction++) {
+                int neighbor = grid.neighbor(cell, direction);
+                if (neighbor == Grid.NO_CELL) {
+                    continue;
+                }
+                int cost = grid.getCost(neighbor);
+                if ((cost <= width) == light && labels.lower(neighbor, distance + cost, cell)) {
+                    improved.add(neighbor);
+                }
+            }
+        }
+    }
+
+    private ForkJoinPool pool() {
+        return WorkerPools.forParallelism(parallelism);
+    }
+
+    /**
+     * Distance + 1 in the high half, parent in the low half; 0 means
+     * unreached, so a fresh array needs no fill.
+     */
+    private static final class Labels implements SearchState {
+        private final AtomicLongArray words;
+
+        Labels(int cellCount) {
+            words = new AtomicLongArray(cellCount);
+        }
+
+        @Override
+        public int distance(int index) {
+            long word = words.get(index);
+            return word == 0 ? UNREACHED : (int) (word >>> 32) - 1;
+        }
+
+        @Override
+        public int parent(int index) {
+            long word = words.get(index);
+            return word == 0 ? NO_PARENT : (int) word;
+        }
+
+        @Override
+        public void update(int index, int newDistance, int newParent) {
+            words.set(index, pack(newDistance, newParent));
+        }
+
+        /** Sets the label if {@code newDistance} beats the current one; safe under contention. */
+        boolean lower(int index, int newDistance, int newParent) {
+            long packed = pack(newDistance, newParent);
+            while (true) {
+                long word = words.get(index);
+                if (word != 0 && (int) (word >>> 32) - 1 <= newDistance) {
+                    return false;
+                }
+                if (words.compareAndSet(index, word, packed)) {
+                    return true;
+                }
+            }
+        }
+
+        private static long pack(int distance, int parent) {
+            return ((long) (distance + 1) << 32) | (parent & 0xFFFFFFFFL);
+        }
+    }
+
+    /**
+     * Circular array of buckets. Pending distances never span more than
+     * {@code maxCost / delta + 2} buckets, so bucket {@code i} lives in slot
+     * {@code i % slots}.
+     */
+    private static final class Buckets {
+        private final IntList[] slots;
+        private int size;
+
+        Buckets(int slotCount) {
+            slots = new IntList[slotCount];
+            for (int i = 0; i < slotCount; i++) {
+                slots[i] = new IntList();
+            }
+        }
+
+        void add(int bucket, int cell) {
+            slots[bucket % slots.length].add(cell);
+            size++;
+        }
+
+        /** Returns bucket {@code bucket}'s cells and leaves the empty {@code spare} in its place. */
+        IntList swap(int bucket, IntList spare) {
+            int slot = bucket % slots.length;
+            IntList cells = slots[slot];
+            slots[slot] = spare;
+            size -= cells.size();
+            return cells;
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+    }
+
+    private static final class IntList {
+        private int[] items = new int[16];
+        private int size;
+
+        void add(int value) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = value;
+        }
+
+        void addAll(IntList other) {
+            if (size + other.size > items.length) {
+                items = Arrays.copyOf(items, Math.max(items.length * 2, size + other.size));
+            }
+            System.arraycopy(other.items, 0, items, size, other.size);
+            size += other.size;
+        }
+
+        int get(int index) {
+            return items[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+        void clear() {
+            size = 0;
+        }
+    }
+}
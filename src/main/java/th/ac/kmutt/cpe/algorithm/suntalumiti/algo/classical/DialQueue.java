@@ -0,0 +1,78 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical;
+
+import java.util.Arrays;
+
+/**
+ * Dial's bucket queue: {@code maxEdgeCost + 1} circular buckets indexed by
+ * distance, so push and pop are O(1) amortized when edge costs are small.
+ */
+public class DialQueue implements MonotoneQueue {
+    private int[][] buckets = new int[0][];
+    private int[] bucketSizes = new int[0];
+    private int bucketCount;
+    private int currentKey;
+    private int size;
+
+    public void reset(int maxEdgeCost) {
+        clear();
+        bucketCount = maxEdgeCost + 1;
+        if (buckets.length < bucketCount) {
+            int oldLength = buckets.length;
+            buckets = Arrays.copyOf(buckets, bucketCount);
+            bucketSizes = Arrays.copyOf(bucketSizes, bucketCount);
+            for (int i = oldLength; i < bucketCount; i++) {
+                buckets[i] = new int[16];
+            }
+        }
+    }
+
+    @Override
+    public void push(int id, int key) {
+        if (key < currentKey || key - currentKey >= bucketCount) {
+            throw new IllegalArgumentException("Key " + key + " outside bucket window at " + currentKey);
+        }
+        int bucket = key % bucketCount;
+        int[] entries = buckets[bucket];
+        int count = bucketSizes[bucket];
+        if (count == entries.length) {
+            entries = Arrays.copyOf(entries, count * 2);
+            buckets[bucket] = entries;
+        }
+        entries[count] = id;
+        bucketSizes[bucket] = count + 1;
+        size++;
+    }
+
+    @Override
+    public int pop() {
+        int bucket = currentKey % bucketCount;
+        while (bucketSizes[bucket] == 0) {
+            currentKey++;
+            bucket = bucket + 1 == bucketCount ? 0 : bucket + 1;
+        }
+        size--;
+        return buckets[bucket][--bucketSizes[bucket]];
+    }
+
+    @Override
+    public int lastKey() {
+        return currentKey;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(bucketSizes, 0);
+        currentKey = 0;
+        size = 0;
+    }
+}
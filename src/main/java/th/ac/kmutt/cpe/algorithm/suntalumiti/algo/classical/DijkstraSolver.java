@@ -1,9 +1,14 @@
 package th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical;
 
+import th.ac.kmutt.cpe.algorithm.suntalumiti.CancellationToken;
 import th.ac.kmutt.cpe.algorithm.suntalumiti.ISolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.ProgressListener;
 import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Cell;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Grid;
 import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Maze;
 import th.ac.kmutt.cpe.algorithm.suntalumiti.model.PathResult;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.ReachabilityIndex;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.SearchMetrics;
 
 import java.util.*;
 
@@ -11,6 +16,7 @@ public class DijkstraSolver implements ISolver {
     private static final int[][] DIRECTIONS = {
         {0, 1}, {0, -1}, {1, 0}, {-1, 0}
     };
+    private static final int CHECK_INTERVAL_MASK = 0x3FF;
     
     @Override
     public String getName() {
@@ -19,12 +25,23 @@ public class DijkstraSolver implements ISolver {
 
     @Override
     public PathResult solve(Maze maze) {
-        long startTime = System.currentTimeMillis();     
+        return solve(maze, CancellationToken.NONE, ProgressListener.NONE);
+    }
+
+    @Override
+    public PathResult solve(Maze maze, CancellationToken token, ProgressListener progress) {
+        try (Grid.Lease lease = maze.getGrid().acquire()) {
+            return search(maze, token, progress);
+        }
+    }
+
+    private PathResult search(Maze maze, CancellationToken token, ProgressListener progress) {
+        SearchMetrics.Probe probe = SearchMetrics.start();
         Cell start = maze.getStartCell();
         Cell goal = maze.getGoalCell();
         
-        if (start == null || goal == null) {
-            return createFailureResult(getName(), startTime);
+        if (!ReachabilityIndex.isSolvable(maze)) {
+            return PathResult.notFound(getName(), probe.search(0, 0, 0, 0));
         }
         PriorityQueue<DijkstraNode> pq = new PriorityQueue<>();
         Map<Cell, Integer> distanceMap = new HashMap<>();
@@ -32,10 +49,22 @@ public class DijkstraSolver implements ISolver {
         pq.add(startNode);
         distanceMap.put(start, 0);
         DijkstraNode finalNode = null;
+        long polled = 0;
+        long pushed = 1;
+        long stalePops = 0;
+        int peakOpen = 1;
         while (!pq.isEmpty()) {
+            if ((++polled & CHECK_INTERVAL_MASK) == 0) {
+                if (token.isCancelled()) {
+                    SearchMetrics metrics = probe.search(polled - 1 - stalePops, pushed, stalePops, peakOpen);
+                    return PathResult.cancelled(Collections.emptyList(), Integer.MAX_VALUE, getName(), metrics);
+                }
+                progress.onProgress(distanceMap.size(), maze.getCellCount());
+            }
             DijkstraNode current = pq.poll();
             Cell currentCell = current.cell;
             if (current.distance > distanceMap.getOrDefault(currentCell, Integer.MAX_VALUE)) {
+                stalePops++;
                 continue;
             }
             if (currentCell.equals(goal)) {
@@ -58,18 +87,20 @@ public class DijkstraSolver implements ISolver {
                         newDistance
                     );
                     pq.add(neighborNode);
+                    pushed++;
+                    peakOpen = Math.max(peakOpen, pq.size());
                 }
             }
         }
-        long endTime = System.currentTimeMillis();
+        SearchMetrics metrics = probe.search(polled - stalePops, pushed, stalePops, peakOpen);
         if (finalNode != null) {
-            return reconstructPath(finalNode, startTime, endTime);
+            return reconstructPath(finalNode, metrics);
         } else {
-            return createFailureResult(getName(), startTime);
+            return PathResult.notFound(getName(), metrics);
         }
     }
 
-    private PathResult reconstructPath(DijkstraNode finalNode, long startTime, long endTime) {
+    private PathResult reconstructPath(DijkstraNode finalNode, SearchMetrics metrics) {
         List<Cell> path = new LinkedList<>();
         DijkstraNode current = finalNode;
         while (current != null) {
@@ -80,17 +111,7 @@ public class DijkstraSolver implements ISolver {
             path, 
             finalNode.distance, 
             getName(), 
-            endTime - startTime
-        );
-    }
-    
-    private PathResult createFailureResult(String algorithmName, long startTime) {
-        long endTime = System.currentTimeMillis();
-        return new PathResult(
-            Collections.emptyList(), 
-            Integer.MAX_VALUE, 
-            algorithmName, 
-            endTime - startTime
+            metrics
         );
     }
-}
\ No newline at end of file
+}
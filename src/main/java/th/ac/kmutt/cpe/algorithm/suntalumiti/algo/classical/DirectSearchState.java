@@ -0,0 +1,79 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical;
+
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.DirectMemory;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
+/**
+ * Off-heap {@link SearchState} for one search over a grid of a known size:
+ * 8 bytes per cell in direct buffers, none of it on the Java heap. Distances
+ * are stored plus one so the zero-filled allocation already reads as
+ * unreached, which doubles as the visited flag. Buffers are split into 1 GiB
+ * chunks because a single direct buffer is limited to 2 GiB.
+ *
+ * <p>Use with try-with-resources: {@link #close()} frees the memory at once.
+ */
+public final class DirectSearchState implements SearchState, AutoCloseable {
+    private static final int CHUNK_SHIFT = 28;
+    private static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+
+    private final ByteBuffer[] chunks;
+    private final IntBuffer[] distance;
+    private final IntBuffer[] parent;
+
+    public DirectSearchState(int cellCount) {
+        int chunkCount = Math.max(1, (int) (((long) cellCount + CHUNK_MASK) >>> CHUNK_SHIFT));
+        chunks = new ByteBuffer[2 * chunkCount];
+        distance = new IntBuffer[chunkCount];
+        parent = new IntBuffer[chunkCount];
+        try {
+            for (int i = 0; i < chunkCount; i++) {
+                int cells = (int) Math.min(1L << CHUNK_SHIFT, (long) cellCount - ((long) i << CHUNK_SHIFT));
+                chunks[2 * i] = DirectMemory.allocate(4L * cells);
+                chunks[2 * i + 1] = DirectMemory.allocate(4L * cells);
+                distance[i] = chunks[2 * i].asIntBuffer();
+                parent[i] = chunks[2 * i + 1].asIntBuffer();
+            }
+        } catch (OutOfMemoryError e) {
+            close();
+            throw e;
+        }
+    }
+
+    @Override
+    public int distance(int index) {
+        int stored = distance[index >>> CHUNK_SHIFT].get(index & CHUNK_MASK);
+        return stored == 0 ? UNREACHED : stored - 1;
+    }
+
+    @Override
+    public int parent(int index) {
+        return distance[index >>> CHUNK_SHIFT].get(index & CHUNK_MASK) == 0
+            ? NO_PARENT
+            : parent[index >>> CHUNK_SHIFT].get(index & CHUNK_MASK);
+    }
+
+    public boolean isReached(int index) {
+        return distance[index >>> CHUNK_SHIFT].get(index & CHUNK_MASK) != 0;
+    }
+
+    @Override
+    public void update(int index, int newDistance, int newParent) {
+        distance[index >>> CHUNK_SHIFT].put(index & CHUNK_MASK, newDistance + 1);
+        parent[index >>> CHUNK_SHIFT].put(index & CHUNK_MASK, newParent);
+    }
+
+    /** Frees the buffers; later reads fail instead of touching released memory. */
+    @Override
+    public void close() {
+        for (int i = 0; i < distance.length; i++) {
+            distance[i] = null;
+            parent[i] = null;
+        }
+        for (int i = 0; i < chunks.length; i++) {
+            DirectMemory.release(chunks[i]);
+            chunks[i] = null;
+        }
+    }
+}
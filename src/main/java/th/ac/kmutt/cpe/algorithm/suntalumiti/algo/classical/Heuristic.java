@@ -0,0 +1,7 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical;
+
+/** Lower bound on the remaining cost from a cell to a fixed goal. */
+@FunctionalInterface
+public interface Heuristic {
+    int estimate(int cell);
+}
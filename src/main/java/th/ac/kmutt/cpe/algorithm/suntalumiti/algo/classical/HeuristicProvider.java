@@ -0,0 +1,33 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical;
+
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Grid;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Maze;
+
+/**
+ * Creates the {@link Heuristic} for one search. Implementations must be
+ * admissible and consistent for cost-on-entry moves.
+ */
+public interface HeuristicProvider {
+    /**
+     * Manhattan distance less one: every step costs at least 1 except
+     * entering the goal, which costs 0 in the maze format.
+     */
+    HeuristicProvider MANHATTAN = new HeuristicProvider() {
+        @Override
+        public Heuristic forGoal(Maze maze, int goal) {
+            Grid grid = maze.getGrid();
+            int goalRow = grid.rowOf(goal);
+            int goalCol = grid.colOf(goal);
+            return cell -> Math.max(0, Math.abs(grid.rowOf(cell) - goalRow) + Math.abs(grid.colOf(cell) - goalCol) - 1);
+        }
+
+        @Override
+        public String getName() {
+            return "Manhattan";
+        }
+    };
+
+    Heuristic forGoal(Maze maze, int goal);
+
+    String getName();
+}
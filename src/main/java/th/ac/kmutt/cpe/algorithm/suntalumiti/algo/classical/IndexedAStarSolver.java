@@ -0,0 +1,94 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical;
+
+import th.ac.kmutt.cpe.algorithm.suntalumiti.ISolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Grid;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Maze;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.PathResult;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.ReachabilityIndex;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.SearchMetrics;
+
+/**
+ * A* over int cell ids. g-costs and parents live in a per-thread
+ * {@link SearchContext} and the open list is an {@link IndexedMinHeap} with
+ * decrease-key, so a steady-state solve only allocates the resulting path.
+ */
+public class IndexedAStarSolver implements ISolver {
+    private static final ThreadLocal<SearchContext> CONTEXT = ThreadLocal.withInitial(SearchContext::new);
+
+    private final HeuristicProvider heuristics;
+
+    public IndexedAStarSolver() {
+        this(HeuristicProvider.MANHATTAN);
+    }
+
+    public IndexedAStarSolver(HeuristicProvider heuristics) {
+        this.heuristics = heuristics;
+    }
+
+    @Override
+    public String getName() {
+        return heuristics == HeuristicProvider.MANHATTAN
+            ? "A* Search Algorithm (Indexed)"
+            : "A* Search Algorithm (" + heuristics.getName() + ")";
+    }
+
+    @Override
+    public PathResult solve(Maze maze) {
+        try (Grid.Lease lease = maze.getGrid().acquire()) {
+            return search(maze);
+        }
+    }
+
+    private PathResult search(Maze maze) {
+        SearchMetrics.Probe probe = SearchMetrics.start();
+        int start = maze.getStartIndex();
+        int goal = maze.getGoalIndex();
+        if (!ReachabilityIndex.isSolvable(maze)) {
+            return PathResult.notFound(getName(), probe.search(0, 0, 0, 0));
+        }
+        Grid grid = maze.getGrid();
+        Heuristic heuristic = heuristics.forGoal(maze, goal);
+        SearchContext context = CONTEXT.get();
+        context.reset(grid.size());
+        IndexedMinHeap openList = context.heap();
+
+        context.update(start, 0, SearchContext.NO_PARENT);
+        openList.insertOrDecrease(start, key(0, heuristic.estimate(start)));
+        boolean found = false;
+        long expanded = 0;
+        long pushed = 1;
+        int peakOpen = 1;
+        while (!openList.isEmpty()) {
+            int current = openList.poll();
+            expanded++;
+            if (current == goal) {
+                found = true;
+                break;
+            }
+            int currentCost = context.distance(current);
+            for (int direction = 0; direction < Grid.DIRECTION_COUNT; direction++) {
+                int neighbor = grid.neighbor(current, direction);
+                if (neighbor == Grid.NO_CELL) {
+                    continue;
+                }
+                int tentativeGCost = currentCost + grid.getCost(neighbor);
+                if (tentativeGCost < context.distance(neighbor)) {
+                    context.update(neighbor, tentativeGCost, current);
+                    openList.insertOrDecrease(neighbor, key(tentativeGCost, heuristic.estimate(neighbor)));
+                    pushed++;
+                    peakOpen = Math.max(peakOpen, openList.size());
+                }
+            }
+        }
+        SearchMetrics metrics = probe.search(expanded, pushed, 0, peakOpen);
+        if (!found) {
+            return PathResult.notFound(getName(), metrics);
+        }
+        return new PathResult(context.buildPath(maze, goal), context.distance(goal), getName(), metrics);
+    }
+
+    /** Orders by f, breaking ties on h like {@link AStarNode}. */
+    private static long key(int gCost, int hCost) {
+        return ((long) (gCost + hCost) << 32) | hCost;
+    }
+}
@@ -0,0 +1,132 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap over int ids with long priorities and decrease-key. Each id
+ * appears at most once; positions are tracked per id so updates are O(log n)
+ * and no entry objects are ever allocated.
+ */
+public class IndexedMinHeap {
+    private static final int ABSENT = -1;
+
+    private int[] heap;
+    private long[] keys;
+    private int[] positions;
+    private int size;
+
+    public IndexedMinHeap(int capacity) {
+        heap = new int[Math.max(16, capacity)];
+        keys = new long[Math.max(16, capacity)];
+        positions = new int[capacity];
+        Arrays.fill(positions, ABSENT);
+    }
+
+    public void ensureCapacity(int capacity) {
+        if (positions.length < capacity) {
+            int oldLength = positions.length;
+            positions = Arrays.copyOf(positions, capacity);
+            Arrays.fill(positions, oldLength, capacity, ABSENT);
+        }
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int id) {
+        return positions[id] != ABSENT;
+    }
+
+    public long peekKey() {
+        return keys[0];
+    }
+
+    /** Inserts {@code id} or lowers its key; a higher key than the current one is ignored. */
+    public void insertOrDecrease(int id, long key) {
+        int position = positions[id];
+        if (position == ABSENT) {
+            if (size == heap.length) {
+                heap = Arrays.copyOf(heap, size * 2);
+                keys = Arrays.copyOf(keys, size * 2);
+            }
+            siftUp(size++, id, key);
+        } else if (key < keys[position]) {
+            siftUp(position, id, key);
+        }
+    }
+
+    public int poll() {
+        int top = heap[0];
+        positions[top] = ABSENT;
+        size--;
+        if (size > 0) {
+            siftDown(0, heap[size], keys[size]);
+        }
+        return top;
+    }
+
+    public void remove(int id) {
+        int position = positions[id];
+        if (position == ABSENT) {
+            return;
+        }
+        positions[id] = ABSENT;
+        size--;
+        if (position < size) {
+            int lastId = heap[size];
+            long lastKey = keys[size];
+            if (position > 0 && lastKey < keys[(position - 1) >>> 1]) {
+                siftUp(position, lastId, lastKey);
+            } else {
+                siftDown(position, lastId, lastKey);
+            }
+        }
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = ABSENT;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int position, int id, long key) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (keys[parent] <= key) {
+                break;
+            }
+            place(position, heap[parent], keys[parent]);
+            position = parent;
+        }
+        place(position, id, key);
+    }
+
+    private void siftDown(int position, int id, long key) {
+        int half = size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            int right = child + 1;
+            if (right < size && keys[right] < keys[child]) {
+                child = right;
+            }
+            if (key <= keys[child]) {
+                break;
+            }
+            place(position, heap[child], keys[child]);
+            position = child;
+        }
+        place(position, id, key);
+    }
+
+    private void place(int position, int id, long key) {
+        heap[position] = id;
+        keys[position] = key;
+        positions[id] = position;
+    }
+}
@@ -0,0 +1,91 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical;
+
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Maze;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * ALT heuristic provider for {@link IndexedAStarSolver}. Landmark tables are
+ * computed on first use per maze and cached until the maze is edited; a
+ * table loaded from disk can be supplied up front with
+ * {@link #register(Maze, LandmarkTable)}. Tables are built outside the cache
+ * lock, and concurrent queries for a maze whose table is being built wait
+ * for that one build.
+ */
+public class LandmarkHeuristic implements HeuristicProvider {
+    public static final int DEFAULT_LANDMARK_COUNT = 8;
+
+    private final int landmarkCount;
+    private final Map<Maze, Entry> tables = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /** A (possibly pending) table together with the maze modification count it was computed for. */
+    private static final class Entry {
+        final CompletableFuture<LandmarkTable> table;
+        final int modificationCount;
+
+        Entry(CompletableFuture<LandmarkTable> table, int modificationCount) {
+            this.table = table;
+            this.modificationCount = modificationCount;
+        }
+    }
+
+    public LandmarkHeuristic() {
+        this(DEFAULT_LANDMARK_COUNT);
+    }
+
+    public LandmarkHeuristic(int landmarkCount) {
+        if (landmarkCount < 1) {
+            throw new IllegalArgumentException("At least one landmark is required: " + landmarkCount);
+        }
+        this.landmarkCount = landmarkCount;
+    }
+
+    public void register(Maze maze, LandmarkTable table) {
+        if (!table.matches(maze)) {
+            throw new IllegalArgumentException("Landmark table does not fit this maze");
+        }
+        tables.put(maze, new Entry(CompletableFuture.completedFuture(table), maze.getModificationCount()));
+    }
+
+    /** Returns the table for this maze, recomputing it after the maze has been edited. */
+    public LandmarkTable table(Maze maze) {
+        int modificationCount = maze.getModificationCount();
+        Entry existing = tables.get(maze);
+        if (existing != null && existing.modificationCount == modificationCount) {
+            return existing.table.join();
+        }
+        Entry mine = new Entry(new CompletableFuture<>(), modificationCount);
+        synchronized (tables) {
+            existing = tables.get(maze);
+            if (existing == null || existing.modificationCount != modificationCount) {
+                existing = null;
+                tables.put(maze, mine);
+            }
+        }
+        if (existing != null) {
+            return existing.table.join();
+        }
+        try {
+            LandmarkTable table = LandmarkTable.compute(maze, landmarkCount);
+            mine.table.complete(table);
+            return table;
+        } catch (RuntimeException | Error e) {
+            mine.table.completeExceptionally(e);
+            tables.remove(maze, mine);
+            throw e;
+        }
+    }
+
+    @Override
+    public Heuristic forGoal(Maze maze, int goal) {
+        return table(maze).heuristicFor(goal);
+    }
+
+    @Override
+    public String getName() {
+        return "ALT";
+    }
+}
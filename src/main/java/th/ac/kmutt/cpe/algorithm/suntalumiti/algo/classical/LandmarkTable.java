@@ -0,0 +1,334 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical;
+
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Grid;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Maze;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.MazeFormatException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Exact cost tables from and to a handful of landmark cells, the
+ * preprocessing behind the ALT heuristic. Landmarks are spread around the
+ * maze perimeter, where they give the tightest bounds for most queries.
+ * Every table is a full Dijkstra; they run in parallel, one per task.
+ *
+ * <p>Tables are stored cell-major ({@code [cell * landmarks + l]}) so one
+ * estimate reads a single contiguous run, and as 16-bit values whenever the
+ * largest finite distance allows it. A table remembers the content hash of
+ * the grid it was computed for, so a sidecar from another maze of the same
+ * size is never mistaken for this one's.
+ */
+public final class LandmarkTable {
+    public static final String SIDECAR_EXTENSION = ".alt";
+    private static final int MAGIC = 0x414C5432; // "ALT2"
+    private static final int NARROW_UNREACHED = 0xFFFF;
+    private static final int UNREACHED = Integer.MAX_VALUE;
+
+    private final int rows;
+    private final int cols;
+    private final long contentHash;
+    private final int[] landmarks;
+    private final char[] narrowFrom;
+    private final char[] narrowTo;
+    private final int[] wideFrom;
+    private final int[] wideTo;
+
+    private LandmarkTable(int rows, int cols, long contentHash, int[] landmarks, int[] from, int[] to) {
+        this.rows = rows;
+        this.cols = cols;
+        this.contentHash = contentHash;
+        this.landmarks = landmarks;
+        int max = 0;
+        for (int i = 0; i < from.length; i++) {
+            if (from[i] != UNREACHED) max = Math.max(max, from[i]);
+            if (to[i] != UNREACHED) max = Math.max(max, to[i]);
+        }
+        if (max < NARROW_UNREACHED) {
+            this.narrowFrom = narrow(from);
+            this.narrowTo = narrow(to);
+            this.wideFrom = null;
+            this.wideTo = null;
+        } else {
+            this.narrowFrom = null;
+            this.narrowTo = null;
+            this.wideFrom = from;
+            this.wideTo = to;
+        }
+    }
+
+    public static LandmarkTable compute(Maze maze, int landmarkCount) {
+        Grid grid = maze.getGrid();
+        int[] landmarks = selectLandmarks(grid, landmarkCount);
+        int k = landmarks.length;
+        int[][] tables = new int[2 * k][];
+        IntStream.range(0, 2 * k).parallel().forEach(task ->
+            tables[task] = distances(grid, landmarks[task % k], task >= k));
+
+        int cells = grid.size();
+        int entries = entryCount(grid.getRows(), grid.getCols(), k);
+        int[] from = new int[entries];
+        int[] to = new int[entries];
+        for (int l = 0; l < k; l++) {
+            int[] forward = tables[l];
+            int[] backward = tables[k + l];
+            for (int cell = 0; cell < cells; cell++) {
+                from[cell * k + l] = forward[cell];
+                to[cell * k + l] = backward[cell];
+            }
+        }
+        return new LandmarkTable(grid.getRows(), grid.getCols(), maze.getContentHash(), landmarks, from, to);
+    }
+
+    public int getLandmarkCount() {
+        return landmarks.length;
+    }
+
+    public int getLandmark(int i) {
+        return landmarks[i];
+    }
+
+    public boolean isNarrow() {
+        return narrowFrom != null;
+    }
+
+    /** True if the table was computed for a grid with the same size and content as {@code maze}'s. */
+    public boolean matches(Maze maze) {
+        return maze.getRows() == rows && maze.getCols() == cols && maze.getContentHash() == contentHash;
+    }
+
+    /** Cost from landmark {@code l} to {@code cell}, or {@link Integer#MAX_VALUE} if unreachable. */
+    public int fromLandmark(int l, int cell) {
+        return read(narrowFrom, wideFrom, cell * landmarks.length + l);
+    }
+
+    /** Cost from {@code cell} to landmark {@code l}, or {@link Integer#MAX_VALUE} if unreachable. */
+    public int toLandmark(int l, int cell) {
+        return read(narrowTo, wideTo, cell * landmarks.length + l);
+    }
+
+    /**
+     * ALT bound on cost(cell &rarr; goal) from the triangle inequality in both
+     * directions: {@code d(L,g) - d(L,v)} and {@code d(v,L) - d(g,L)}.
+     */
+    public Heuristic heuristicFor(int goal) {
+        int k = landmarks.length;
+        int[] goalFrom = new int[k];
+        int[] goalTo = new int[k];
+        for (int l = 0; l < k; l++) {
+            goalFrom[l] = fromLandmark(l, goal);
+            goalTo[l] = toLandmark(l, goal);
+        }
+        return cell -> {
+            int best = 0;
+            int base = cell * k;
+            for (int l = 0; l < k; l++) {
+                int cellFrom = read(narrowFrom, wideFrom, base + l);
+                if (goalFrom[l] != UNREACHED && cellFrom != UNREACHED) {
+                    best = Math.max(best, goalFrom[l] - cellFrom);
+                }
+                int cellTo = read(narrowTo, wideTo, base + l);
+                if (cellTo != UNREACHED && goalTo[l] != UNREACHED) {
+                    best = Math.max(best, cellTo - goalTo[l]);
+                }
+            }
+            return best;
+        };
+    }
+
+    public static Path sidecarPath(Path mazePath) {
+        return mazePath.resolveSibling(mazePath.getFileName() + SIDECAR_EXTENSION);
+    }
+
+    public void save(Path path) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(rows);
+            out.writeInt(cols);
+            out.writeLong(contentHash);
+            out.writeInt(landmarks.length);
+            out.writeBoolean(isNarrow());
+            for (int landmark : landmarks) {
+                out.writeInt(landmark);
+            }
+            int entries = entryCount(rows, cols, landmarks.length);
+            for (int i = 0; i < entries; i++) {
+                if (isNarrow()) {
+                    out.writeChar(narrowFrom[i]);
+                    out.writeChar(narrowTo[i]);
+                } else {
+                    out.writeInt(wideFrom[i]);
+                    out.writeInt(wideTo[i]);
+                }
+            }
+        }
+    }
+
+    public static LandmarkTable load(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 1 << 16))) {
+            if (in.readInt() != MAGIC) {
+                throw new MazeFormatException(1, 1, "not a landmark table: " + path);
+            }
+            int rows = in.readInt();
+            int cols = in.readInt();
+            long contentHash = in.readLong();
+            int k = in.readInt();
+            int entries;
+            try {
+                entries = entryCount(rows, cols, k);
+            } catch (IllegalArgumentException e) {
+                throw new MazeFormatException(1, 1, e.getMessage());
+            }
+            boolean narrowed = in.readBoolean();
+            int[] landmarks = new int[k];
+            for (int l = 0; l < k; l++) {
+                landmarks[l] = in.readInt();
+            }
+            int[] from = new int[entries];
+            int[] to = new int[entries];
+            for (int i = 0; i < entries; i++) {
+                from[i] = narrowed ? widen(in.readChar()) : in.readInt();
+                to[i] = narrowed ? widen(in.readChar()) : in.readInt();
+            }
+            return new LandmarkTable(rows, cols, contentHash, landmarks, from, to);
+        }
+    }
+
+    /**
+     * Loads the sidecar next to {@code mazePath} if it was computed for this
+     * maze's content, otherwise computes and saves one. Sidecars in an older
+     * format, truncated or otherwise unreadable, are replaced too.
+     */
+    public static LandmarkTable loadOrCompute(Maze maze, Path mazePath, int landmarkCount) throws IOException {
+        Path sidecar = sidecarPath(mazePath);
+        if (Files.isRegularFile(sidecar)) {
+            try {
+                LandmarkTable table = load(sidecar);
+                if (table.matches(maze) && table.getLandmarkCount() == landmarkCount) {
+                    return table;
+                }
+            } catch (IOException | IllegalArgumentException e) {
+                // Stale format, truncated or corrupt: fall through and overwrite it.
+            }
+        }
+        LandmarkTable table = compute(maze, landmarkCount);
+        table.save(sidecar);
+        return table;
+    }
+
+    /** {@code rows * cols * landmarks}, which must fit a Java array. */
+    private static int entryCount(int rows, int cols, int landmarks) {
+        long entries = (long) rows * cols * landmarks;
+        if (rows < 0 || cols < 0 || landmarks < 0 || entries > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Landmark table too large: " + rows + "x" + cols + " cells, "
+                + landmarks + " landmarks");
+        }
+        return (int) entries;
+    }
+
+    private static int read(char[] narrow, int[] wide, int i) {
+        return narrow != null ? widen(narrow[i]) : wide[i];
+    }
+
+    private static int widen(char value) {
+        return value == NARROW_UNREACHED ? UNREACHED : value;
+    }
+
+    private static char[] narrow(int[] values) {
+        char[] narrowed = new char[values.length];
+        for (int i = 0; i < values.length; i++) {
+            narrowed[i] = values[i] == UNREACHED ? (char) NARROW_UNREACHED : (char) values[i];
+        }
+        return narrowed;
+    }
+
+    /**
+     * Anchors {@code count} points evenly along the perimeter and takes the
+     * open cell nearest to each (by Chebyshev rings), skipping duplicates.
+     */
+    static int[] selectLandmarks(Grid grid, int count) {
+        int rows = grid.getRows();
+        int cols = grid.getCols();
+        int perimeter = Math.max(1, 2 * (rows + cols) - 4);
+        int[] chosen = new int[count];
+        int found = 0;
+        for (int i = 0; i < count; i++) {
+            int offset = (int) ((long) i * perimeter / count);
+            int r;
+            int c;
+            if (offset < cols) {
+                r = 0; c = offset;
+            } else if (offset < cols + rows - 1) {
+                r = offset - cols + 1; c = cols - 1;
+            } else if (offset < 2 * cols + rows - 2) {
+                r = rows - 1; c = cols - 1 - (offset - cols - rows + 2);
+            } else {
+                r = rows - 1 - (offset - 2 * cols - rows + 3); c = 0;
+            }
+            int cell = nearestOpen(grid, Math.max(0, Math.min(rows - 1, r)), Math.max(0, Math.min(cols - 1, c)));
+            if (cell != Grid.NO_CELL && !contains(chosen, found, cell)) {
+                chosen[found++] = cell;
+            }
+        }
+        return Arrays.copyOf(chosen, found);
+    }
+
+    private static int nearestOpen(Grid grid, int r0, int c0) {
+        int maxRadius = Math.max(grid.getRows(), grid.getCols());
+        for (int radius = 0; radius < maxRadius; radius++) {
+            for (int r = r0 - radius; r <= r0 + radius; r++) {
+                for (int c = c0 - radius; c <= c0 + radius; c++) {
+                    boolean ring = Math.abs(r - r0) == radius || Math.abs(c - c0) == radius;
+                    if (ring && grid.isOpen(r, c)) {
+                        return grid.index(r, c);
+                    }
+                }
+            }
+        }
+        return Grid.NO_CELL;
+    }
+
+    private static boolean contains(int[] values, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) return true;
+        }
+        return false;
+    }
+
+    /** Exact cost from every cell to {@code target}, or {@link Integer#MAX_VALUE} if unreachable. */
+    public static int[] costsTo(Grid grid, int target) {
+        return distances(grid, target, true);
+    }
+
+    /** Full Dijkstra from {@code landmark}; backward labels are costs into the landmark. */
+    private static int[] distances(Grid grid, int landmark, boolean backward) {
+        int[] distance = new int[grid.size()];
+        Arrays.fill(distance, UNREACHED);
+        IndexedMinHeap heap = new IndexedMinHeap(grid.size());
+        distance[landmark] = 0;
+        heap.insertOrDecrease(landmark, 0);
+        while (!heap.isEmpty()) {
+            int current = heap.poll();
+            int base = backward ? distance[current] + grid.getCost(current) : distance[current];
+            for (int direction = 0; direction < Grid.DIRECTION_COUNT; direction++) {
+                int neighbor = grid.neighbor(current, direction);
+                if (neighbor == Grid.NO_CELL) {
+                    continue;
+                }
+                int newDistance = backward ? base : base + grid.getCost(neighbor);
+                if (newDistance < distance[neighbor]) {
+                    distance[neighbor] = newDistance;
+                    heap.insertOrDecrease(neighbor, newDistance);
+                }
+            }
+        }
+        return distance;
+    }
+}
@@ -0,0 +1,267 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical;
+
+import th.ac.kmutt.cpe.algorithm.suntalumiti.ISolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Cell;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Grid;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Maze;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.MazeChangeListener;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.PathResult;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.ReachabilityIndex;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.SearchMetrics;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Lifelong Planning A* (Koenig &amp; Likhachev) with a zero heuristic. The
+ * solver keeps its shortest-path tree between calls and listens to the maze
+ * it last solved; after {@link Maze#setCost}, {@link Maze#setWall} or a batch
+ * update, the next {@link #solve(Maze)} only re-expands cells whose distance
+ * the edits actually changed. Solving a different maze, or the same maze with
+ * other endpoints, starts over.
+ *
+ * <p>Instances are stateful: share one per maze, not across threads. The
+ * maze holds the solver only weakly, so a discarded solver's arrays can be
+ * collected while the maze lives on.
+ */
+public class LpaStarSolver implements ISolver {
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    private final MazeChangeListener listener = new WeakListener(this);
+
+    private Maze maze;
+    private Grid grid;
+    private int start = Grid.NO_CELL;
+    private int goal = Grid.NO_CELL;
+    private int[] g = new int[0];
+    private int[] rhs = new int[0];
+    private IndexedMinHeap openList = new IndexedMinHeap(0);
+
+    private boolean[] pendingMark = new boolean[0];
+    private int[] pending = new int[0];
+    private int pendingCount;
+    private int lastExpandedCount;
+    private long pushedCount;
+    private int peakOpen;
+
+    private int[] towardGoal = new int[0];
+    private int[] traceStamp = new int[0];
+    private int traceGeneration;
+
+    @Override
+    public String getName() {
+        return "LPA* (Incremental)";
+    }
+
+    /** Cells expanded by the most recent {@link #solve(Maze)}. */
+    public synchronized int getLastExpandedCount() {
+        return lastExpandedCount;
+    }
+
+    @Override
+    public synchronized PathResult solve(Maze maze) {
+        try (Grid.Lease lease = maze.getGrid().acquire()) {
+            return search(maze);
+        }
+    }
+
+    private PathResult search(Maze maze) {
+        SearchMetrics.Probe probe = SearchMetrics.start();
+        boolean fresh = maze != this.maze || maze.getStartIndex() != start || maze.getGoalIndex() != goal;
+        // Repairs skip the index: rebuilding it after every edit would cost more than the repair.
+        if (fresh && !ReachabilityIndex.isSolvable(maze)) {
+            return PathResult.notFound(getName(), probe.search(0, 0, 0, 0));
+        }
+        pushedCount = 0;
+        if (fresh) {
+            initialize(maze);
+        } else {
+            applyPendingChanges();
+        }
+        peakOpen = openList.size();
+        lastExpandedCount = computeShortestPath();
+        SearchMetrics metrics = probe.search(lastExpandedCount, pushedCount, 0, peakOpen);
+        if (g[goal] == INFINITY) {
+            return PathResult.notFound(getName(), metrics);
+        }
+        return new PathResult(buildPath(), g[goal], getName(), metrics);
+    }
+
+    private void initialize(Maze maze) {
+        if (this.maze != null) {
+            this.maze.removeChangeListener(listener);
+        }
+        this.maze = maze;
+        this.grid = maze.getGrid();
+        this.start = maze.getStartIndex();
+        this.goal = maze.getGoalIndex();
+        int cells = grid.size();
+        if (g.length != cells) {
+            g = new int[cells];
+            rhs = new int[cells];
+            pendingMark = new boolean[cells];
+            towardGoal = new int[cells];
+            traceStamp = new int[cells];
+            traceGeneration = 0;
+            openList = new IndexedMinHeap(cells);
+        }
+        Arrays.fill(g, INFINITY);
+        Arrays.fill(rhs, INFINITY);
+        Arrays.fill(pendingMark, false);
+        pendingCount = 0;
+        openList.clear();
+        rhs[start] = 0;
+        openList.insertOrDecrease(start, 0);
+        maze.addChangeListener(listener);
+    }
+
+    private synchronized void cellsChanged(int[] cells) {
+        for (int cell : cells) {
+            if (!pendingMark[cell]) {
+                pendingMark[cell] = true;
+                if (pendingCount == pending.length) {
+                    pending = Arrays.copyOf(pending, Math.max(16, pendingCount * 2));
+                }
+                pending[pendingCount++] = cell;
+            }
+        }
+    }
+
+    private void applyPendingChanges() {
+        for (int i = 0; i < pendingCount; i++) {
+            int cell = pending[i];
+            pendingMark[cell] = false;
+            if (grid.isWall(cell)) {
+                g[cell] = INFINITY;
+                rhs[cell] = INFINITY;
+                if (openList.contains(cell)) {
+                    openList.remove(cell);
+                }
+            } else {
+                updateVertex(cell);
+            }
+            // Wall changes add or remove the edges between the cell and its neighbours.
+            for (int direction = 0; direction < Grid.DIRECTION_COUNT; direction++) {
+                int neighbor = grid.neighbor(cell, direction);
+                if (neighbor != Grid.NO_CELL) {
+                    updateVertex(neighbor);
+                }
+            }
+        }
+        pendingCount = 0;
+    }
+
+    private int computeShortestPath() {
+        int expanded = 0;
+        // Ties with the goal key are settled too, so every cell on a shortest path is consistent.
+        while (!openList.isEmpty() && (openList.peekKey() <= key(goal) || rhs[goal] != g[goal])) {
+            int current = openList.poll();
+            expanded++;
+            if (g[current] > rhs[current]) {
+                g[current] = rhs[current];
+            } else {
+                g[current] = INFINITY;
+                updateVertex(current);
+            }
+            for (int direction = 0; direction < Grid.DIRECTION_COUNT; direction++) {
+                int neighbor = grid.neighbor(current, direction);
+                if (neighbor != Grid.NO_CELL) {
+                    updateVertex(neighbor);
+                }
+            }
+        }
+        return expanded;
+    }
+
+    private void updateVertex(int cell) {
+        if (cell != start) {
+            int best = INFINITY;
+            int cost = grid.getCost(cell);
+            for (int direction = 0; direction < Grid.DIRECTION_COUNT; direction++) {
+                int predecessor = grid.neighbor(cell, direction);
+                if (predecessor != Grid.NO_CELL && g[predecessor] != INFINITY) {
+                    best = Math.min(best, g[predecessor] + cost);
+                }
+            }
+            rhs[cell] = best;
+        }
+        if (openList.contains(cell)) {
+            openList.remove(cell);
+        }
+        if (g[cell] != rhs[cell]) {
+            openList.insertOrDecrease(cell, key(cell));
+            pushedCount++;
+            peakOpen = Math.max(peakOpen, openList.size());
+        }
+    }
+
+    private long key(int cell) {
+        return Math.min(g[cell], rhs[cell]);
+    }
+
+    /**
+     * Searches back from the goal over consistent predecessors
+     * ({@code g(p) + cost(cell) == g(cell)}). Cells that cost 0 can tie, so
+     * this is a depth-first search with a visited mark rather than a greedy walk.
+     */
+    private List<Cell> buildPath() {
+        if (++traceGeneration == Integer.MAX_VALUE) {
+            Arrays.fill(traceStamp, 0);
+            traceGeneration = 1;
+        }
+        int[] stack = new int[16];
+        int top = 0;
+        stack[top++] = goal;
+        traceStamp[goal] = traceGeneration;
+        towardGoal[goal] = Grid.NO_CELL;
+        while (top > 0) {
+            int current = stack[--top];
+            if (current == start) {
+                break;
+            }
+            int cost = grid.getCost(current);
+            for (int direction = 0; direction < Grid.DIRECTION_COUNT; direction++) {
+                int predecessor = grid.neighbor(current, direction);
+                if (predecessor == Grid.NO_CELL || traceStamp[predecessor] == traceGeneration
+                        || g[predecessor] == INFINITY || g[predecessor] + cost != g[current]) {
+                    continue;
+                }
+                traceStamp[predecessor] = traceGeneration;
+                towardGoal[predecessor] = current;
+                if (top == stack.length) {
+                    stack = Arrays.copyOf(stack, top * 2);
+                }
+                stack[top++] = predecessor;
+            }
+        }
+        if (traceStamp[start] != traceGeneration) {
+            throw new IllegalStateException("Inconsistent search tree: no path back to the start");
+        }
+        List<Cell> path = new ArrayList<>();
+        for (int current = start; current != Grid.NO_CELL; current = towardGoal[current]) {
+            path.add(maze.getCell(current));
+        }
+        return path;
+    }
+
+    /** Forwards edits while the solver is alive, then unregisters itself. */
+    private static final class WeakListener implements MazeChangeListener {
+        private final WeakReference<LpaStarSolver> solver;
+
+        WeakListener(LpaStarSolver solver) {
+            this.solver = new WeakReference<>(solver);
+        }
+
+        @Override
+        public void cellsChanged(Maze maze, int[] cells) {
+            LpaStarSolver target = solver.get();
+            if (target == null) {
+                maze.removeChangeListener(this);
+            } else {
+                target.cellsChanged(cells);
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical;
+
+/**
+ * Priority queue for Dijkstra-style searches where popped keys never
+ * decrease. Entries are not deduplicated, so callers skip stale pops by
+ * comparing {@link #lastKey()} with the settled distance.
+ */
+public interface MonotoneQueue {
+    void push(int id, int key);
+    int pop();
+    int lastKey();
+    boolean isEmpty();
+    int size();
+    void clear();
+}
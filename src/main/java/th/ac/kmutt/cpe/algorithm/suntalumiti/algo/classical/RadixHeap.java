@@ -0,0 +1,95 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical;
+
+import java.util.Arrays;
+
+/**
+ * Monotone radix heap. Bucket {@code i > 0} holds keys whose highest bit
+ * differing from the last popped key is bit {@code i - 1}; each entry is
+ * redistributed at most once per bit, giving O(log C) amortized pops.
+ */
+public class RadixHeap implements MonotoneQueue {
+    private static final int BUCKET_COUNT = 33;
+
+    private final int[][] ids = new int[BUCKET_COUNT][];
+    private final int[][] keys = new int[BUCKET_COUNT][];
+    private final int[] bucketSizes = new int[BUCKET_COUNT];
+    private int last;
+    private int size;
+
+    public RadixHeap() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            ids[i] = new int[16];
+            keys[i] = new int[16];
+        }
+    }
+
+    @Override
+    public void push(int id, int key) {
+        if (key < last) {
+            throw new IllegalArgumentException("Key " + key + " is below last popped key " + last);
+        }
+        append(bucketOf(key), id, key);
+        size++;
+    }
+
+    @Override
+    public int pop() {
+        if (bucketSizes[0] == 0) {
+            int bucket = 1;
+            while (bucketSizes[bucket] == 0) {
+                bucket++;
+            }
+            int[] bucketKeys = keys[bucket];
+            int[] bucketIds = ids[bucket];
+            int count = bucketSizes[bucket];
+            int min = bucketKeys[0];
+            for (int i = 1; i < count; i++) {
+                min = Math.min(min, bucketKeys[i]);
+            }
+            last = min;
+            bucketSizes[bucket] = 0;
+            for (int i = 0; i < count; i++) {
+                append(bucketOf(bucketKeys[i]), bucketIds[i], bucketKeys[i]);
+            }
+        }
+        size--;
+        return ids[0][--bucketSizes[0]];
+    }
+
+    @Override
+    public int lastKey() {
+        return last;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(bucketSizes, 0);
+        last = 0;
+        size = 0;
+    }
+
+    private int bucketOf(int key) {
+        return key == last ? 0 : 32 - Integer.numberOfLeadingZeros(key ^ last);
+    }
+
+    private void append(int bucket, int id, int key) {
+        int count = bucketSizes[bucket];
+        if (count == ids[bucket].length) {
+            ids[bucket] = Arrays.copyOf(ids[bucket], count * 2);
+            keys[bucket] = Arrays.copyOf(keys[bucket], count * 2);
+        }
+        ids[bucket][count] = id;
+        keys[bucket][count] = key;
+        bucketSizes[bucket] = count + 1;
+    }
+}
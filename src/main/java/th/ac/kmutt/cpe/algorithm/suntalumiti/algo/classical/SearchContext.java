@@ -0,0 +1,56 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical;
+
+import java.util.Arrays;
+
+/**
+ * Reusable per-thread scratch state for index-based searches. Arrays only
+ * grow; {@link #reset(int)} starts a new search in O(1) by bumping a
+ * generation stamp instead of clearing the distance and parent arrays.
+ */
+public class SearchContext implements SearchState {
+    private int[] distance = new int[0];
+    private int[] parent = new int[0];
+    private int[] stamp = new int[0];
+    private int generation;
+    private final IndexedMinHeap heap = new IndexedMinHeap(0);
+
+    public void reset(int cellCount) {
+        if (stamp.length < cellCount) {
+            distance = new int[cellCount];
+            parent = new int[cellCount];
+            stamp = new int[cellCount];
+            generation = 0;
+        }
+        heap.clear();
+        heap.ensureCapacity(cellCount);
+        if (++generation == Integer.MAX_VALUE) {
+            Arrays.fill(stamp, 0);
+            generation = 1;
+        }
+    }
+
+    @Override
+    public int distance(int index) {
+        return stamp[index] == generation ? distance[index] : UNREACHED;
+    }
+
+    @Override
+    public int parent(int index) {
+        return stamp[index] == generation ? parent[index] : NO_PARENT;
+    }
+
+    public boolean isReached(int index) {
+        return stamp[index] == generation;
+    }
+
+    @Override
+    public void update(int index, int newDistance, int newParent) {
+        stamp[index] = generation;
+        distance[index] = newDistance;
+        parent[index] = newParent;
+    }
+
+    public IndexedMinHeap heap() {
+        return heap;
+    }
+}
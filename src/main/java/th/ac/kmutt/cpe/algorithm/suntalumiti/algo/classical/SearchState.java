@@ -0,0 +1,38 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical;
+
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Cell;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Maze;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Per-cell distance and parent of one search, addressed by cell index.
+ * {@link SearchContext} keeps them on the heap, {@link DirectSearchState}
+ * off-heap.
+ */
+public interface SearchState {
+    int UNREACHED = Integer.MAX_VALUE;
+    int NO_PARENT = -1;
+
+    int distance(int index);
+
+    int parent(int index);
+
+    void update(int index, int newDistance, int newParent);
+
+    /** Walks the parent chain back from {@code goal} and materializes the path start-first. */
+    default List<Cell> buildPath(Maze maze, int goal) {
+        int length = 0;
+        for (int current = goal; current != NO_PARENT; current = parent(current)) {
+            length++;
+        }
+        List<Cell> path = new ArrayList<>(Collections.nCopies(length, null));
+        int position = length;
+        for (int current = goal; current != NO_PARENT; current = parent(current)) {
+            path.set(--position, maze.getCell(current));
+        }
+        return path;
+    }
+}
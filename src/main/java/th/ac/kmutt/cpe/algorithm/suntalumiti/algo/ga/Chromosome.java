@@ -1,91 +1,195 @@
 package th.ac.kmutt.cpe.algorithm.suntalumiti.algo.ga;
 
 import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Cell;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Grid;
 import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Maze;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
+/**
+ * Packed genome: 2 bits per move ({@link Gene#ordinal()}), 32 moves per
+ * {@code long}. Crossover and mutation work on whole words, and
+ * {@link #evaluate(Maze)} only tracks cost and position; the cell path is
+ * replayed on demand by {@link #getPath()}.
+ */
 public class Chromosome implements Comparable<Chromosome> {
-    private final List<Gene> genes;
+    private static final int GENES_PER_WORD = 32;
+    private static final int BITS_PER_GENE = 2;
+    private static final long GENE_MASK = 0b11L;
+
+    private final long[] words;
+    private final int length;
     private double fitness = 0.0;
     private int totalCost = Integer.MAX_VALUE;
     private boolean isGoalReached = false;
+    private int stepsTaken;
+    private Maze evaluatedMaze;
     private List<Cell> path;
 
-    private static final Random RANDOM = new Random();
-    
     private static final int MAX_PATH_LENGTH = 1000; 
     // private static final int COLLISION_PENALTY = 100;
     private static final int WALL_HIT_FIXED_PENALTY = 5000;
 
     public Chromosome(int geneLength) {
-        this.genes = new ArrayList<>(geneLength);
-        for (int i = 0; i < geneLength; i++) {
-            this.genes.add(Gene.getRandomGene());
+        this(geneLength, ThreadLocalRandom.current());
+    }
+
+    public Chromosome(int geneLength, RandomGenerator random) {
+        this(new long[wordCount(geneLength)], geneLength);
+        for (int w = 0; w < words.length; w++) {
+            words[w] = random.nextLong();
         }
+        clearTail();
     }
 
     public Chromosome(List<Gene> genes) {
-        this.genes = new ArrayList<>(genes);
+        this(new long[wordCount(genes.size())], genes.size());
+        for (int i = 0; i < length; i++) {
+            setGene(i, genes.get(i));
+        }
+    }
+
+    private Chromosome(long[] words, int length) {
+        this.words = words;
+        this.length = length;
+    }
+
+    /** Independent copy that keeps the last evaluation, for handing to another thread. */
+    Chromosome copy() {
+        Chromosome copy = new Chromosome(words.clone(), length);
+        copy.fitness = fitness;
+        copy.totalCost = totalCost;
+        copy.isGoalReached = isGoalReached;
+        copy.stepsTaken = stepsTaken;
+        copy.evaluatedMaze = evaluatedMaze;
+        return copy;
+    }
+
+    private static int wordCount(int geneLength) {
+        return (geneLength + GENES_PER_WORD - 1) / GENES_PER_WORD;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public Gene getGene(int i) {
+        return Gene.fromCode((int) (words[i / GENES_PER_WORD] >>> shift(i) & GENE_MASK));
+    }
+
+    public void setGene(int i, Gene gene) {
+        int w = i / GENES_PER_WORD;
+        words[w] = (words[w] & ~(GENE_MASK << shift(i))) | ((long) gene.ordinal() << shift(i));
     }
 
     public void evaluate(Maze maze) {
-        Cell currentCell = maze.getStartCell();
-        this.totalCost = 0;
-        this.isGoalReached = false;
-        this.path = new ArrayList<>();
-        path.add(currentCell);
-        for (int i = 0; i < genes.size(); i++) {
-            Gene move = genes.get(i);
-            int nextR = currentCell.getRow() + move.getDr();
-            int nextC = currentCell.getCol() + move.getDc();
-            if (!maze.isValid(nextR, nextC)) {
-                this.totalCost += WALL_HIT_FIXED_PENALTY;
+        Grid grid = maze.getGrid();
+        int goal = maze.getGoalIndex();
+        int r = grid.rowOf(maze.getStartIndex());
+        int c = grid.colOf(maze.getStartIndex());
+        int cost = 0;
+        int steps = 0;
+        boolean reached = false;
+        for (int i = 0; i < length; i++) {
+            Gene move = getGene(i);
+            int nextR = r + move.getDr();
+            int nextC = c + move.getDc();
+            if (!grid.isOpen(nextR, nextC)) {
+                cost += WALL_HIT_FIXED_PENALTY;
                 break; 
             }
-
-            Cell nextCell = maze.getCell(nextR, nextC);
-            this.totalCost += nextCell.getTimeCost();
-            this.path.add(nextCell);
-            currentCell = nextCell;
-            if (currentCell.isGoal()) {
-                this.isGoalReached = true;
+            int next = grid.index(nextR, nextC);
+            cost += grid.getCost(next);
+            steps++;
+            r = nextR;
+            c = nextC;
+            if (next == goal) {
+                reached = true;
                 break; 
             }           
-            if (path.size() >= MAX_PATH_LENGTH) {
-                this.totalCost += 10000; 
+            if (steps + 1 >= MAX_PATH_LENGTH) {
+                cost += 10000; 
                 break;
             }
         }    
-        if (!isGoalReached) {
-            int distance = Math.abs(currentCell.getRow() - maze.getGoalCell().getRow()) + 
-                           Math.abs(currentCell.getCol() - maze.getGoalCell().getCol());
-            this.totalCost += distance * 50; 
+        if (!reached) {
+            int distance = Math.abs(r - grid.rowOf(goal)) + Math.abs(c - grid.colOf(goal));
+            cost += distance * 50; 
         }
+        this.totalCost = cost;
+        this.isGoalReached = reached;
+        this.stepsTaken = steps;
+        this.evaluatedMaze = maze;
+        this.path = null;
         this.fitness = 1.0 / (this.totalCost + 1e-6); 
     }
 
+    /** Replays the moves taken by the last {@link #evaluate(Maze)} into cells. */
+    public List<Cell> materializePath(Maze maze) {
+        Grid grid = maze.getGrid();
+        int r = grid.rowOf(maze.getStartIndex());
+        int c = grid.colOf(maze.getStartIndex());
+        List<Cell> cells = new ArrayList<>(stepsTaken + 1);
+        cells.add(maze.getCell(grid.index(r, c)));
+        for (int i = 0; i < stepsTaken; i++) {
+            Gene move = getGene(i);
+            r += move.getDr();
+            c += move.getDc();
+            cells.add(maze.getCell(grid.index(r, c)));
+        }
+        return cells;
+    }
+
     public Chromosome crossover(Chromosome other) {
-        int crossoverPoint = RANDOM.nextInt(genes.size());
-        List<Gene> newGenes = new ArrayList<>();      
-        for (int i = 0; i < crossoverPoint; i++) {
-            newGenes.add(this.genes.get(i));
-        }     
-        for (int i = crossoverPoint; i < other.genes.size(); i++) {
-            if(newGenes.size() < genes.size()) {
-                 newGenes.add(other.genes.get(i));
-            }
-        }     
-        return new Chromosome(newGenes);
+        return crossover(other, ThreadLocalRandom.current());
+    }
+
+    public Chromosome crossover(Chromosome other, RandomGenerator random) {
+        int crossoverPoint = random.nextInt(length);
+        long[] child = Arrays.copyOf(other.words, words.length);
+        int fullWords = crossoverPoint / GENES_PER_WORD;
+        System.arraycopy(words, 0, child, 0, fullWords);
+        int headBits = shift(crossoverPoint);
+        if (headBits > 0) {
+            long headMask = (1L << headBits) - 1;
+            child[fullWords] = (words[fullWords] & headMask) | (child[fullWords] & ~headMask);
+        }
+        Chromosome offspring = new Chromosome(child, length);
+        offspring.clearTail();
+        return offspring;
     }
 
+    /**
+     * Replaces each gene with a random one with probability {@code mutationRate}.
+     * Gaps between mutated positions are drawn from the geometric distribution,
+     * so the cost is proportional to the number of mutations, not the length.
+     */
     public void mutate(double mutationRate) {
-        for (int i = 0; i < genes.size(); i++) {
-            if (RANDOM.nextDouble() < mutationRate) {
-                genes.set(i, Gene.getRandomGene());
+        mutate(mutationRate, ThreadLocalRandom.current());
+    }
+
+    public void mutate(double mutationRate, RandomGenerator random) {
+        if (mutationRate <= 0) {
+            return;
+        }
+        if (mutationRate >= 1) {
+            for (int i = 0; i < length; i++) {
+                setGene(i, Gene.getRandomGene(random));
             }
+            return;
+        }
+        double logKeep = Math.log1p(-mutationRate);
+        long i = -1;
+        while (true) {
+            i += 1 + (long) (Math.log(1.0 - random.nextDouble()) / logKeep);
+            if (i >= length) {
+                break;
+            }
+            setGene((int) i, Gene.getRandomGene(random));
         }
     }
 
@@ -98,6 +202,9 @@ public class Chromosome implements Comparable<Chromosome> {
     }
 
     public List<Cell> getPath() { 
+        if (path == null && evaluatedMaze != null) {
+            path = materializePath(evaluatedMaze);
+        }
         return path; 
     }
 
@@ -106,6 +213,10 @@ public class Chromosome implements Comparable<Chromosome> {
     }
     
     public List<Gene> getGenes() { 
+        List<Gene> genes = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            genes.add(getGene(i));
+        }
         return genes; 
     }
 
@@ -113,4 +224,15 @@ public class Chromosome implements Comparable<Chromosome> {
     public int compareTo(Chromosome other) {
         return Double.compare(other.fitness, this.fitness);
     }
-}
\ No newline at end of file
+
+    private static int shift(int i) {
+        return (i % GENES_PER_WORD) * BITS_PER_GENE;
+    }
+
+    private void clearTail() {
+        int tailBits = shift(length);
+        if (tailBits > 0) {
+            words[words.length - 1] &= (1L << tailBits) - 1;
+        }
+    }
+}
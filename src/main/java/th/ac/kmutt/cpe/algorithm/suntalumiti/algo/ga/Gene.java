@@ -1,12 +1,13 @@
 package th.ac.kmutt.cpe.algorithm.suntalumiti.algo.ga;
 
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 public enum Gene {
     UP(-1, 0), DOWN(1, 0), LEFT(0, -1), RIGHT(0, 1);
     private final int dr;
     private final int dc;
-    private static final Random RANDOM = new Random();
+    private static final Gene[] VALUES = values();
 
     Gene(int dr, int dc) {
         this.dr = dr;
@@ -16,7 +17,15 @@ public enum Gene {
     public int getDr() { return dr; }
     public int getDc() { return dc; }
 
+    public static Gene fromCode(int code) {
+        return VALUES[code];
+    }
+
     public static Gene getRandomGene() {
-        return Gene.values()[RANDOM.nextInt(Gene.values().length)];
+        return getRandomGene(ThreadLocalRandom.current());
+    }
+
+    public static Gene getRandomGene(RandomGenerator random) {
+        return VALUES[random.nextInt(VALUES.length)];
     }
 }
\ No newline at end of file
@@ -0,0 +1,137 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.algo.ga;
+
+/**
+ * Immutable tuning knobs for {@link GeneticSolver}. Defaults reproduce the
+ * original constants; each {@code withX} method returns a modified copy.
+ */
+public final class GeneticConfig {
+    public static final GeneticConfig DEFAULT = new GeneticConfig(200, 3000, 0.05, 600, 5, 5, null, 1, 1, 50, 2, MigrationTopology.RING,
+        InitializationStrategy.UNIFORM);
+
+    private final int populationSize;
+    private final int maxGenerations;
+    private final double mutationRate;
+    private final int geneLength;
+    private final int tournamentSize;
+    private final int elitismCount;
+    private final Long seed;
+    private final int parallelism;
+    private final int islandCount;
+    private final int migrationInterval;
+    private final int migrantCount;
+    private final MigrationTopology topology;
+    private final InitializationStrategy initialization;
+
+    private GeneticConfig(int populationSize, int maxGenerations, double mutationRate, int geneLength,
+                          int tournamentSize, int elitismCount, Long seed, int parallelism,
+                          int islandCount, int migrationInterval, int migrantCount, MigrationTopology topology,
+                          InitializationStrategy initialization) {
+        if (populationSize <= elitismCount || tournamentSize < 1 || geneLength < 1 || parallelism < 0
+                || islandCount < 1 || migrationInterval < 1 || migrantCount < 0
+                || migrantCount > populationSize - elitismCount || topology == null || initialization == null) {
+            throw new IllegalArgumentException("Invalid genetic configuration");
+        }
+        this.populationSize = populationSize;
+        this.maxGenerations = maxGenerations;
+        this.mutationRate = mutationRate;
+        this.geneLength = geneLength;
+        this.tournamentSize = tournamentSize;
+        this.elitismCount = elitismCount;
+        this.seed = seed;
+        this.parallelism = parallelism;
+        this.islandCount = islandCount;
+        this.migrationInterval = migrationInterval;
+        this.migrantCount = migrantCount;
+        this.topology = topology;
+        this.initialization = initialization;
+    }
+
+    public int getPopulationSize() { return populationSize; }
+    public int getMaxGenerations() { return maxGenerations; }
+    public double getMutationRate() { return mutationRate; }
+    public int getGeneLength() { return geneLength; }
+    public int getTournamentSize() { return tournamentSize; }
+    public int getElitismCount() { return elitismCount; }
+    /** Fixed seed for reproducible runs, or {@code null} to draw a fresh one per solve. */
+    public Long getSeed() { return seed; }
+    /** Worker threads for evaluation and breeding; 1 is sequential, 0 uses every core. */
+    public int getParallelism() { return parallelism; }
+    /**
+     * Independent populations of {@link #getPopulationSize()} each; 1 disables the
+     * island model. Islands evolve concurrently, one thread each unless
+     * {@link #getParallelism()} above 1 caps the thread count.
+     */
+    public int getIslandCount() { return islandCount; }
+    /** Generations between migrations. */
+    public int getMigrationInterval() { return migrationInterval; }
+    /** Best chromosomes each island sends per migration; they replace the receiver's worst. */
+    public int getMigrantCount() { return migrantCount; }
+    public MigrationTopology getTopology() { return topology; }
+    /** How generation-zero chromosomes are drawn. */
+    public InitializationStrategy getInitialization() { return initialization; }
+
+    public GeneticConfig withPopulationSize(int value) {
+        return new GeneticConfig(value, maxGenerations, mutationRate, geneLength, tournamentSize, elitismCount, seed, parallelism,
+            islandCount, migrationInterval, migrantCount, topology, initialization);
+    }
+
+    public GeneticConfig withMaxGenerations(int value) {
+        return new GeneticConfig(populationSize, value, mutationRate, geneLength, tournamentSize, elitismCount, seed, parallelism,
+            islandCount, migrationInterval, migrantCount, topology, initialization);
+    }
+
+    public GeneticConfig withMutationRate(double value) {
+        return new GeneticConfig(populationSize, maxGenerations, value, geneLength, tournamentSize, elitismCount, seed, parallelism,
+            islandCount, migrationInterval, migrantCount, topology, initialization);
+    }
+
+    public GeneticConfig withGeneLength(int value) {
+        return new GeneticConfig(populationSize, maxGenerations, mutationRate, value, tournamentSize, elitismCount, seed, parallelism,
+            islandCount, migrationInterval, migrantCount, topology, initialization);
+    }
+
+    public GeneticConfig withTournamentSize(int value) {
+        return new GeneticConfig(populationSize, maxGenerations, mutationRate, geneLength, value, elitismCount, seed, parallelism,
+            islandCount, migrationInterval, migrantCount, topology, initialization);
+    }
+
+    public GeneticConfig withElitismCount(int value) {
+        return new GeneticConfig(populationSize, maxGenerations, mutationRate, geneLength, tournamentSize, value, seed, parallelism,
+            islandCount, migrationInterval, migrantCount, topology, initialization);
+    }
+
+    public GeneticConfig withSeed(Long value) {
+        return new GeneticConfig(populationSize, maxGenerations, mutationRate, geneLength, tournamentSize, elitismCount, value, parallelism,
+            islandCount, migrationInterval, migrantCount, topology, initialization);
+    }
+
+    public GeneticConfig withParallelism(int value) {
+        return new GeneticConfig(populationSize, maxGenerations, mutationRate, geneLength, tournamentSize, elitismCount, seed, value,
+            islandCount, migrationInterval, migrantCount, topology, initialization);
+    }
+
+    public GeneticConfig withIslandCount(int value) {
+        return new GeneticConfig(populationSize, maxGenerations, mutationRate, geneLength, tournamentSize, elitismCount, seed, parallelism,
+            value, migrationInterval, migrantCount, topology, initialization);
+    }
+
+    public GeneticConfig withMigrationInterval(int value) {
+        return new GeneticConfig(populationSize, maxGenerations, mutationRate, geneLength, tournamentSize, elitismCount, seed, parallelism,
+            islandCount, value, migrantCount, topology, initialization);
+    }
+
+    public GeneticConfig withMigrantCount(int value) {
+        return new GeneticConfig(populationSize, maxGenerations, mutationRate, geneLength, tournamentSize, elitismCount, seed, parallelism,
+            islandCount, migrationInterval, value, topology, initialization);
+    }
+
+    public GeneticConfig withTopology(MigrationTopology value) {
+        return new GeneticConfig(populationSize, maxGenerations, mutationRate, geneLength, tournamentSize, elitismCount, seed, parallelism,
+            islandCount, migrationInterval, migrantCount, value, initialization);
+    }
+
+    public GeneticConfig withInitialization(InitializationStrategy value) {
+        return new GeneticConfig(populationSize, maxGenerations, mutationRate, geneLength, tournamentSize, elitismCount, seed, parallelism,
+            islandCount, migrationInterval, migrantCount, topology, value);
+    }
+}
@@ -1,22 +1,56 @@
 package th.ac.kmutt.cpe.algorithm.suntalumiti.algo.ga;
 
+import th.ac.kmutt.cpe.algorithm.suntalumiti.CancellationToken;
 import th.ac.kmutt.cpe.algorithm.suntalumiti.ISolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.ProgressListener;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.WorkerPools;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical.LandmarkTable;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Grid;
 import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Maze;
 import th.ac.kmutt.cpe.algorithm.suntalumiti.model.PathResult;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.ReachabilityIndex;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.SearchMetrics;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 
+/**
+ * Generational GA with tournament selection and elitism. Every random draw
+ * for population slot {@code i} in generation {@code g} comes from its own
+ * generator seeded from {@code (seed, g, i)}, so a seeded run produces the
+ * same result whether slots are bred and evaluated sequentially or on a
+ * fork-join pool.
+ * <p>
+ * With {@link GeneticConfig#getIslandCount()} above 1, several populations
+ * evolve concurrently and exchange their best chromosomes every
+ * {@link GeneticConfig#getMigrationInterval()} generations. Migration happens
+ * between epochs while no island is running, so seeded island runs are
+ * reproducible too.
+ */
 public class GeneticSolver implements ISolver {
     private static final String NAME = "Genetic Algorithm (GA)";
-    private static final int POPULATION_SIZE = 200;
-    private static final int MAX_GENERATIONS = 3000;
-    private static final double MUTATION_RATE = 0.05;
-    private static final int GENE_LENGTH = 600;
-    private static final int TOURNAMENT_SIZE = 5;
-    private static final int ELITISM_COUNT = 5;
-    private final Random random = new Random();
+    private static final int INITIAL_GENERATION = -1;
+
+    private final GeneticConfig config;
+
+    public GeneticSolver() {
+        this(GeneticConfig.DEFAULT);
+    }
+
+    public GeneticSolver(GeneticConfig config) {
+        this.config = config;
+    }
+
+    public GeneticConfig getConfig() {
+        return config;
+    }
 
     @Override
     public String getName() {
@@ -25,78 +59,252 @@ public class GeneticSolver implements ISolver {
 
     @Override
     public PathResult solve(Maze maze) {
-        long startTime = System.currentTimeMillis();
-        List<Chromosome> currentPopulation = initializePopulation();
-        evaluatePopulation(currentPopulation, maze);        
-        Chromosome bestChromosome = currentPopulation.get(0);
-        for (int generation = 0; generation < MAX_GENERATIONS; generation++) {
-            List<Chromosome> nextPopulation = new ArrayList<>();           
-            for (int i = 0; i < ELITISM_COUNT; i++) {
-                nextPopulation.add(currentPopulation.get(i));
-            }           
-            while (nextPopulation.size() < POPULATION_SIZE) {
-                Chromosome parent1 = tournamentSelection(currentPopulation);
-                Chromosome parent2 = tournamentSelection(currentPopulation);
-                Chromosome offspring = parent1.crossover(parent2);
-                offspring.mutate(MUTATION_RATE);               
-                nextPopulation.add(offspring);
+        return solve(maze, CancellationToken.NONE, ProgressListener.NONE);
+    }
+
+    /**
+     * Checks the token once per generation. A cancelled run still returns
+     * its best goal-reaching chromosome so far, marked as cancelled. A goal
+     * outside the start's component fails before the first generation.
+     */
+    @Override
+    public PathResult solve(Maze maze, CancellationToken token, ProgressListener progress) {
+        try (Grid.Lease lease = maze.getGrid().acquire()) {
+            return evolve(maze, token, progress);
+        }
+    }
+
+    private PathResult evolve(Maze maze, CancellationToken token, ProgressListener progress) {
+        SearchMetrics.Probe probe = SearchMetrics.start();
+        if (!ReachabilityIndex.isSolvable(maze)) {
+            return createFailureResult(NAME, probe.evolution(0, 0, -1), false);
+        }
+        long seed = config.getSeed() != null ? config.getSeed() : ThreadLocalRandom.current().nextLong();
+        Island[] islands = new Island[config.getIslandCount()];
+        for (int i = 0; i < islands.length; i++) {
+            // A single island keeps the original seed so non-island runs are unchanged.
+            islands[i] = new Island(islands.length == 1 ? seed : mix(seed + i));
+        }
+        int[] costToGoal = config.getInitialization() == InitializationStrategy.MIXED
+            ? LandmarkTable.costsTo(maze.getGrid(), maze.getGoalIndex())
+            : null;
+        forEachIsland(islands, island -> island.initialize(maze, costToGoal));
+
+        int interval = islands.length == 1 ? config.getMaxGenerations() : config.getMigrationInterval();
+        for (int from = 0; from < config.getMaxGenerations(); from += interval) {
+            int to = Math.min(config.getMaxGenerations(), from + interval);
+            int epochStart = from;
+            forEachIsland(islands, island -> island.evolve(maze, epochStart, to, token,
+                island == islands[0] ? progress : ProgressListener.NONE));
+            if (Arrays.stream(islands).anyMatch(island -> island.stopped)) {
+                break;
+            }
+            migrate(islands);
+        }
+
+        Chromosome bestChromosome = islands[0].best;
+        boolean cancelled = false;
+        int generations = 0;
+        long evaluations = 0;
+        int goalGeneration = -1;
+        for (Island island : islands) {
+            if (island.best.getFitness() > bestChromosome.getFitness()) {
+                bestChromosome = island.best;
             }
-            
-            currentPopulation = nextPopulation;
-            evaluatePopulation(currentPopulation, maze);          
-            Chromosome generationBest = currentPopulation.get(0);
-            if (generationBest.getFitness() > bestChromosome.getFitness()) {
-                bestChromosome = generationBest;
-            }           
-            if (bestChromosome.isGoalReached() && generationBest.getTotalCost() < bestChromosome.getTotalCost()) {
-                break; 
+            cancelled |= island.cancelled;
+            generations = Math.max(generations, island.generations);
+            evaluations += (long) config.getPopulationSize() * (island.generations + 1);
+            if (island.goalGeneration >= 0 && (goalGeneration < 0 || island.goalGeneration < goalGeneration)) {
+                goalGeneration = island.goalGeneration;
             }
         }
-        
-        long endTime = System.currentTimeMillis();     
+        SearchMetrics metrics = probe.evolution(generations, evaluations, goalGeneration);
         if (bestChromosome.isGoalReached()) {
             return new PathResult(
-                bestChromosome.getPath(), 
-                bestChromosome.getTotalCost(), 
-                NAME, 
-                endTime - startTime
+                bestChromosome.getPath(),
+                bestChromosome.getTotalCost(),
+                NAME,
+                metrics.getWallMillis(),
+                cancelled,
+                metrics
             );
         } else {
-            return createFailureResult(NAME, startTime, endTime);
+            return createFailureResult(NAME, metrics, cancelled);
+        }
+    }
+
+    /** One population and its best chromosome so far. */
+    private final class Island {
+        private final long seed;
+        private List<Chromosome> population;
+        private Chromosome best;
+        private int generations;
+        private boolean cancelled;
+        private boolean stopped;
+        private int goalGeneration = -1;
+
+        Island(long seed) {
+            this.seed = seed;
+        }
+
+        void initialize(Maze maze, int[] costToGoal) {
+            population = initializePopulation(seed, maze, costToGoal);
+            evaluatePopulation(population, maze);
+            best = population.get(0);
+            if (best.isGoalReached()) {
+                goalGeneration = 0;
+            }
+        }
+
+        void evolve(Maze maze, int from, int to, CancellationToken token, ProgressListener progress) {
+            for (int generation = from; generation < to; generation++) {
+                if (token.isCancelled()) {
+                    cancelled = true;
+                    stopped = true;
+                    return;
+                }
+                generations++;
+                progress.onProgress(generation, config.getMaxGenerations());
+                population = breed(population, seed, generation);
+                evaluatePopulation(population, maze);
+                Chromosome generationBest = population.get(0);
+                if (generationBest.getFitness() > best.getFitness()) {
+                    best = generationBest;
+                }
+                if (goalGeneration < 0 && best.isGoalReached()) {
+                    goalGeneration = generations;
+                }
+                if (best.isGoalReached() && generationBest.getTotalCost() < best.getTotalCost()) {
+                    stopped = true;
+                    return;
+                }
+            }
+        }
+    }
+
+    /** Copies each island's best into its neighbours along the configured topology. */
+    private void migrate(Island[] islands) {
+        int count = config.getMigrantCount();
+        if (islands.length == 1 || count == 0) {
+            return;
+        }
+        List<List<Chromosome>> incoming = new ArrayList<>(islands.length);
+        for (int i = 0; i < islands.length; i++) {
+            incoming.add(new ArrayList<>());
+        }
+        for (int i = 0; i < islands.length; i++) {
+            List<Chromosome> emigrants = islands[i].population.subList(0, count);
+            for (int j = 0; j < islands.length; j++) {
+                boolean receives = config.getTopology() == MigrationTopology.FULL
+                    ? j != i
+                    : j == (i + 1) % islands.length;
+                if (receives) {
+                    for (Chromosome emigrant : emigrants) {
+                        incoming.get(j).add(emigrant.copy());
+                    }
+                }
+            }
+        }
+        int replaceable = config.getPopulationSize() - config.getElitismCount();
+        for (int j = 0; j < islands.length; j++) {
+            List<Chromosome> population = islands[j].population;
+            List<Chromosome> arrivals = incoming.get(j);
+            for (int k = 0; k < Math.min(replaceable, arrivals.size()); k++) {
+                population.set(population.size() - 1 - k, arrivals.get(k));
+            }
+            Collections.sort(population);
+        }
+    }
+
+    private void forEachIsland(Island[] islands, Consumer<Island> body) {
+        if (islands.length == 1) {
+            body.accept(islands[0]);
+        } else {
+            islandPool().submit(() -> Arrays.stream(islands).parallel().forEach(body)).join();
         }
     }
 
-    private List<Chromosome> initializePopulation() {
-        List<Chromosome> population = new ArrayList<>(POPULATION_SIZE);
-        for (int i = 0; i < POPULATION_SIZE; i++) {
-            population.add(new Chromosome(GENE_LENGTH));
+    private List<Chromosome> initializePopulation(long seed, Maze maze, int[] costToGoal) {
+        Chromosome[] population = new Chromosome[config.getPopulationSize()];
+        forEachSlot(0, population.length, i -> population[i] = InitialWalks.create(config.getInitialization(),
+            maze, costToGoal, config.getGeneLength(), i, slotRandom(seed, INITIAL_GENERATION, i)));
+        return new ArrayList<>(Arrays.asList(population));
+    }
+
+    private List<Chromosome> breed(List<Chromosome> currentPopulation, long seed, int generation) {
+        Chromosome[] nextPopulation = new Chromosome[config.getPopulationSize()];
+        for (int i = 0; i < config.getElitismCount(); i++) {
+            nextPopulation[i] = currentPopulation.get(i);
         }
-        return population;
+        forEachSlot(config.getElitismCount(), nextPopulation.length, i -> {
+            SplittableRandom random = slotRandom(seed, generation, i);
+            Chromosome parent1 = tournamentSelection(currentPopulation, random);
+            Chromosome parent2 = tournamentSelection(currentPopulation, random);
+            Chromosome offspring = parent1.crossover(parent2, random);
+            offspring.mutate(config.getMutationRate(), random);
+            nextPopulation[i] = offspring;
+        });
+        return new ArrayList<>(Arrays.asList(nextPopulation));
     }
-    
+
     private void evaluatePopulation(List<Chromosome> population, Maze maze) {
-        for (Chromosome chromosome : population) {
-            chromosome.evaluate(maze);
+        forEachSlot(0, population.size(), i -> population.get(i).evaluate(maze));
+        Collections.sort(population);
+    }
+
+    private Chromosome tournamentSelection(List<Chromosome> population, SplittableRandom random) {
+        Chromosome best = null;
+        for (int i = 0; i < config.getTournamentSize(); i++) {
+            Chromosome candidate = population.get(random.nextInt(population.size()));
+            if (best == null || candidate.compareTo(best) < 0) {
+                best = candidate;
+            }
         }
-        Collections.sort(population); 
+        return best;
     }
 
-    private Chromosome tournamentSelection(List<Chromosome> population) {
-        List<Chromosome> tournament = new ArrayList<>(TOURNAMENT_SIZE);
-        for (int i = 0; i < TOURNAMENT_SIZE; i++) {
-            int randomIndex = random.nextInt(population.size());
-            tournament.add(population.get(randomIndex));
+    /** Islands already occupy the threads, so slots within an island run sequentially. */
+    private void forEachSlot(int from, int to, IntConsumer body) {
+        if (config.getParallelism() == 1 || config.getIslandCount() > 1) {
+            for (int i = from; i < to; i++) {
+                body.accept(i);
+            }
+        } else {
+            pool().submit(() -> IntStream.range(from, to).parallel().forEach(body)).join();
         }
-        Collections.sort(tournament);
-        return tournament.get(0); 
     }
-    
-    private PathResult createFailureResult(String algorithmName, long startTime, long endTime) {
+
+    private ForkJoinPool pool() {
+        return WorkerPools.forParallelism(config.getParallelism());
+    }
+
+    private ForkJoinPool islandPool() {
+        int threads = config.getParallelism() > 1
+            ? Math.min(config.getParallelism(), config.getIslandCount())
+            : config.getIslandCount();
+        return WorkerPools.forParallelism(threads);
+    }
+
+    /** Independent stream per (seed, generation, slot), mixed so neighbouring slots do not correlate. */
+    static SplittableRandom slotRandom(long seed, int generation, int slot) {
+        long key = mix(seed ^ mix(((long) generation << 32) | (slot & 0xFFFFFFFFL)));
+        return new SplittableRandom(key);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+
+    private PathResult createFailureResult(String algorithmName, SearchMetrics metrics, boolean cancelled) {
         return new PathResult(
-            Collections.emptyList(), 
-            Integer.MAX_VALUE, 
-            algorithmName, 
-            endTime - startTime
+            Collections.emptyList(),
+            Integer.MAX_VALUE,
+            algorithmName,
+            metrics.getWallMillis(),
+            cancelled,
+            metrics
         );
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,132 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.algo.ga;
+
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Grid;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Maze;
+
+import java.util.random.RandomGenerator;
+
+/** Builds generation-zero chromosomes for the non-uniform {@link InitializationStrategy}s. */
+final class InitialWalks {
+    private static final Gene[] MOVES = Gene.values();
+    private static final double GOAL_BIAS_WEIGHT = 4.0;
+    private static final double DETOUR_RATE = 0.2;
+
+    private enum Walk { WALL_AVOIDING, GOAL_BIASED, NOISY_SHORTEST }
+
+    private InitialWalks() {
+    }
+
+    /**
+     * @param costToGoal exact cost from each cell to the goal; only read by
+     *                   {@link InitializationStrategy#MIXED}
+     */
+    static Chromosome create(InitializationStrategy strategy, Maze maze, int[] costToGoal,
+                             int geneLength, int slot, RandomGenerator random) {
+        Chromosome chromosome = new Chromosome(geneLength, random);
+        switch (strategy) {
+            case WALL_AVOIDING:
+                walk(chromosome, maze, costToGoal, Walk.WALL_AVOIDING, random);
+                break;
+            case GOAL_BIASED:
+                walk(chromosome, maze, costToGoal, Walk.GOAL_BIASED, random);
+                break;
+            case MIXED:
+                walk(chromosome, maze, costToGoal, Walk.values()[slot % Walk.values().length], random);
+                break;
+            default:
+                break;
+        }
+        return chromosome;
+    }
+
+    private static void walk(Chromosome chromosome, Maze maze, int[] costToGoal, Walk walk, RandomGenerator random) {
+        Grid grid = maze.getGrid();
+        int goal = maze.getGoalIndex();
+        int current = maze.getStartIndex();
+        int[] candidates = new int[MOVES.length];
+        double[] weights = new double[MOVES.length];
+        int previous = -1;
+        for (int i = 0; i < chromosome.length() && current != goal; i++) {
+            int count = 0;
+            int back = -1;
+            for (int m = 0; m < MOVES.length; m++) {
+                if (neighbor(grid, current, MOVES[m]) == Grid.NO_CELL) {
+                    continue;
+                }
+                if (previous >= 0 && m == (previous ^ 1)) {
+                    back = m;
+                } else {
+                    candidates[count++] = m;
+                }
+            }
+            if (count == 0 && back >= 0) {
+                candidates[count++] = back;
+            }
+            if (count == 0) {
+                return;
+            }
+            int move;
+            if (walk == Walk.NOISY_SHORTEST && random.nextDouble() >= DETOUR_RATE) {
+                move = steepestDescent(grid, current, costToGoal, candidates, count, back);
+            } else if (walk == Walk.GOAL_BIASED) {
+                move = goalBiased(grid, current, goal, candidates, weights, count, random);
+            } else {
+                move = candidates[random.nextInt(count)];
+            }
+            chromosome.setGene(i, MOVES[move]);
+            current = neighbor(grid, current, MOVES[move]);
+            previous = move;
+        }
+    }
+
+    /** Next move along a cheapest path to the goal, turning back only if that is the way. */
+    private static int steepestDescent(Grid grid, int current, int[] costToGoal, int[] candidates, int count, int back) {
+        int best = candidates[0];
+        long bestCost = Long.MAX_VALUE;
+        for (int k = 0; k <= count; k++) {
+            int m = k < count ? candidates[k] : back;
+            if (m < 0) {
+                continue;
+            }
+            int next = neighbor(grid, current, MOVES[m]);
+            if (costToGoal[next] == Integer.MAX_VALUE) {
+                continue;
+            }
+            long cost = (long) grid.getCost(next) + costToGoal[next];
+            if (cost < bestCost) {
+                bestCost = cost;
+                best = m;
+            }
+        }
+        return best;
+    }
+
+    private static int goalBiased(Grid grid, int current, int goal, int[] candidates, double[] weights,
+                                  int count, RandomGenerator random) {
+        int distance = manhattan(grid, current, goal);
+        double total = 0;
+        for (int k = 0; k < count; k++) {
+            int next = neighbor(grid, current, MOVES[candidates[k]]);
+            weights[k] = manhattan(grid, next, goal) < distance ? GOAL_BIAS_WEIGHT : 1.0;
+            total += weights[k];
+        }
+        double pick = random.nextDouble() * total;
+        for (int k = 0; k < count - 1; k++) {
+            pick -= weights[k];
+            if (pick < 0) {
+                return candidates[k];
+            }
+        }
+        return candidates[count - 1];
+    }
+
+    private static int neighbor(Grid grid, int index, Gene move) {
+        int r = grid.rowOf(index) + move.getDr();
+        int c = grid.colOf(index) + move.getDc();
+        return grid.isOpen(r, c) ? grid.index(r, c) : Grid.NO_CELL;
+    }
+
+    private static int manhattan(Grid grid, int a, int b) {
+        return Math.abs(grid.rowOf(a) - grid.rowOf(b)) + Math.abs(grid.colOf(a) - grid.colOf(b));
+    }
+}
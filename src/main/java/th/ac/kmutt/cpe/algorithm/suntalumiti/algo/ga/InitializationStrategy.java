@@ -0,0 +1,20 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.algo.ga;
+
+/**
+ * How {@link GeneticSolver} fills its first population. Walk-based strategies
+ * only write the moves up to the goal or the gene length; the genes they
+ * leave behind stay uniformly random.
+ */
+public enum InitializationStrategy {
+    /** Uniformly random genes; most chromosomes hit a wall within a few moves. */
+    UNIFORM,
+    /** Random walks that only step into open cells and avoid turning straight back. */
+    WALL_AVOIDING,
+    /** Wall-avoiding walks that prefer moves which close the Manhattan distance to the goal. */
+    GOAL_BIASED,
+    /**
+     * A third each of wall-avoiding walks, goal-biased walks, and shortest paths
+     * to the goal with random detours.
+     */
+    MIXED
+}
@@ -0,0 +1,9 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.algo.ga;
+
+/** Which islands receive an island's emigrants in {@link GeneticSolver}'s island model. */
+public enum MigrationTopology {
+    /** Island {@code i} sends to island {@code i + 1}, wrapping around. */
+    RING,
+    /** Every island sends to every other island. */
+    FULL
+}
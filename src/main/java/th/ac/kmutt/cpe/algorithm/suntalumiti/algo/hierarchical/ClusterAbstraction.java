@@ -0,0 +1,270 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.algo.hierarchical;
+
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Grid;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Maze;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Abstract graph over a maze partitioned into square clusters, as used by
+ * HPA*. Nodes are entrance cells on cluster borders; edges are either a
+ * single step across a border or the cheapest path between two entrances of
+ * the same cluster that stays inside it.
+ *
+ * <p>A dense abstraction makes every open border crossing an entrance, which
+ * keeps abstract distances exact at the price of O(K) edges per border cell.
+ * A sparse one keeps one entrance per short border run and two (its ends)
+ * per long run, like the original HPA* paper. Intra-cluster edges are
+ * computed in parallel, one cluster per task, and abstractions are cached
+ * per maze.
+ */
+public final class ClusterAbstraction {
+    private static final int LONG_ENTRANCE = 6;
+    private static final Map<Maze, Map<String, ClusterAbstraction>> CACHE =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
+    static final class Bounds {
+        final int top;
+        final int left;
+        final int height;
+        final int width;
+
+        Bounds(int top, int left, int height, int width) {
+            this.top = top;
+            this.left = left;
+            this.height = height;
+            this.width = width;
+        }
+    }
+
+    private final Grid grid;
+    private final int clusterSize;
+    private final boolean dense;
+    private final int clusterRows;
+    private final int clusterCols;
+
+    private final int[] nodeCells;
+    private final int[] clusterNodeStart;
+    private final int[] clusterNodes;
+    private final int[] edgeStart;
+    private final int[] edgeTargets;
+    private final int[] edgeCosts;
+    private int modificationCount;
+
+    private ClusterAbstraction(Grid grid, int clusterSize, boolean dense) {
+        this.grid = grid;
+        this.clusterSize = clusterSize;
+        this.dense = dense;
+        this.clusterRows = (grid.getRows() + clusterSize - 1) / clusterSize;
+        this.clusterCols = (grid.getCols() + clusterSize - 1) / clusterSize;
+
+        BitSet entrances = new BitSet(grid.size());
+        EdgeList interEdges = new EdgeList();
+        findEntrances(entrances, interEdges);
+        nodeCells = entrances.stream().toArray();
+
+        int clusterCount = clusterRows * clusterCols;
+        clusterNodeStart = new int[clusterCount + 1];
+        for (int cell : nodeCells) {
+            clusterNodeStart[clusterOf(cell) + 1]++;
+        }
+        for (int i = 0; i < clusterCount; i++) {
+            clusterNodeStart[i + 1] += clusterNodeStart[i];
+        }
+        clusterNodes = new int[nodeCells.length];
+        int[] fill = Arrays.copyOf(clusterNodeStart, clusterCount);
+        for (int node = 0; node < nodeCells.length; node++) {
+            clusterNodes[fill[clusterOf(nodeCells[node])]++] = node;
+        }
+
+        EdgeList[] intraEdges = new EdgeList[clusterCount];
+        IntStream.range(0, clusterCount).parallel().forEach(cluster -> intraEdges[cluster] = connectCluster(cluster));
+
+        int[] degree = new int[nodeCells.length + 1];
+        interEdges.countSources(degree);
+        for (EdgeList edges : intraEdges) {
+            edges.countSources(degree);
+        }
+        edgeStart = new int[nodeCells.length + 1];
+        for (int node = 0; node < nodeCells.length; node++) {
+            edgeStart[node + 1] = edgeStart[node] + degree[node + 1];
+        }
+        edgeTargets = new int[edgeStart[nodeCells.length]];
+        edgeCosts = new int[edgeTargets.length];
+        int[] cursor = Arrays.copyOf(edgeStart, nodeCells.length);
+        interEdges.scatter(cursor, edgeTargets, edgeCosts);
+        for (EdgeList edges : intraEdges) {
+            edges.scatter(cursor, edgeTargets, edgeCosts);
+        }
+    }
+
+    /** Returns the cached abstraction for this maze, (re)building it on first use and after edits. */
+    public static ClusterAbstraction of(Maze maze, int clusterSize, boolean dense) {
+        if (clusterSize < 2) {
+            throw new IllegalArgumentException("Cluster size must be at least 2: " + clusterSize);
+        }
+        String key = clusterSize + (dense ? "/dense" : "/sparse");
+        Map<String, ClusterAbstraction> perMaze;
+        synchronized (CACHE) {
+            perMaze = CACHE.computeIfAbsent(maze, m -> new HashMap<>());
+        }
+        synchronized (perMaze) {
+            ClusterAbstraction abstraction = perMaze.get(key);
+            int modificationCount = maze.getModificationCount();
+            if (abstraction == null || abstraction.modificationCount != modificationCount) {
+                abstraction = new ClusterAbstraction(maze.getGrid(), clusterSize, dense);
+                abstraction.modificationCount = modificationCount;
+                perMaze.put(key, abstraction);
+            }
+            return abstraction;
+        }
+    }
+
+    public int getClusterSize() { return clusterSize; }
+    public boolean isDense() { return dense; }
+    public int getNodeCount() { return nodeCells.length; }
+    public int getEdgeCount() { return edgeTargets.length; }
+
+    Grid grid() { return grid; }
+
+    int nodeCell(int node) { return nodeCells[node]; }
+
+    int edgeStart(int node) { return edgeStart[node]; }
+    int edgeEnd(int node) { return edgeStart[node + 1]; }
+    int edgeTarget(int edge) { return edgeTargets[edge]; }
+    int edgeCost(int edge) { return edgeCosts[edge]; }
+
+    int clusterNodeStart(int cluster) { return clusterNodeStart[cluster]; }
+    int clusterNodeEnd(int cluster) { return clusterNodeStart[cluster + 1]; }
+    int clusterNode(int i) { return clusterNodes[i]; }
+
+    int clusterOf(int cell) {
+        return (grid.rowOf(cell) / clusterSize) * clusterCols + grid.colOf(cell) / clusterSize;
+    }
+
+    Bounds bounds(int cluster) {
+        int top = (cluster / clusterCols) * clusterSize;
+        int left = (cluster % clusterCols) * clusterSize;
+        return new Bounds(top, left,
+            Math.min(clusterSize, grid.getRows() - top),
+            Math.min(clusterSize, grid.getCols() - left));
+    }
+
+    private void findEntrances(BitSet entrances, EdgeList interEdges) {
+        // vertical borders: cell (r, x - 1) | (r, x)
+        for (int x = clusterSize; x < grid.getCols(); x += clusterSize) {
+            for (int band = 0; band < grid.getRows(); band += clusterSize) {
+                int end = Math.min(band + clusterSize, grid.getRows());
+                int runStart = -1;
+                for (int r = band; r <= end; r++) {
+                    boolean open = r < end && !grid.isWall(grid.index(r, x - 1)) && !grid.isWall(grid.index(r, x));
+                    if (open && runStart < 0) {
+                        runStart = r;
+                    } else if (!open && runStart >= 0) {
+                        for (int t : transitions(runStart, r - 1)) {
+                            addTransition(grid.index(t, x - 1), grid.index(t, x), entrances, interEdges);
+                        }
+                        runStart = -1;
+                    }
+                }
+            }
+        }
+        // horizontal borders: cell (y - 1, c) over (y, c)
+        for (int y = clusterSize; y < grid.getRows(); y += clusterSize) {
+            for (int band = 0; band < grid.getCols(); band += clusterSize) {
+                int end = Math.min(band + clusterSize, grid.getCols());
+                int runStart = -1;
+                for (int c = band; c <= end; c++) {
+                    boolean open = c < end && !grid.isWall(grid.index(y - 1, c)) && !grid.isWall(grid.index(y, c));
+                    if (open && runStart < 0) {
+                        runStart = c;
+                    } else if (!open && runStart >= 0) {
+                        for (int t : transitions(runStart, c - 1)) {
+                            addTransition(grid.index(y - 1, t), grid.index(y, t), entrances, interEdges);
+                        }
+                        runStart = -1;
+                    }
+                }
+            }
+        }
+    }
+
+    private int[] transitions(int first, int last) {
+        if (dense) {
+            return IntStream.rangeClosed(first, last).toArray();
+        }
+        if (last - first + 1 < LONG_ENTRANCE) {
+            return new int[] {(first + last) >>> 1};
+        }
+        return new int[] {first, last};
+    }
+
+    private void addTransition(int a, int b, BitSet entrances, EdgeList interEdges) {
+        entrances.set(a);
+        entrances.set(b);
+        interEdges.add(a, b, grid.getCost(b));
+        interEdges.add(b, a, grid.getCost(a));
+    }
+
+    private EdgeList connectCluster(int cluster) {
+        EdgeList edges = new EdgeList();
+        int from = clusterNodeStart[cluster];
+        int to = clusterNodeStart[cluster + 1];
+        if (to - from < 2) {
+            return edges;
+        }
+        Bounds bounds = bounds(cluster);
+        ClusterSearch search = ClusterSearch.local();
+        for (int i = from; i < to; i++) {
+            int source = nodeCells[clusterNodes[i]];
+            search.run(grid, bounds, source, Grid.NO_CELL, false);
+            for (int j = from; j < to; j++) {
+                int target = nodeCells[clusterNodes[j]];
+                int distance = search.distanceTo(target);
+                if (i != j && distance != ClusterSearch.UNREACHED) {
+                    edges.add(source, target, distance);
+                }
+            }
+        }
+        return edges;
+    }
+
+    int nodeOf(int cell) {
+        return Arrays.binarySearch(nodeCells, cell);
+    }
+
+    /** Growable edge triples keyed by cell; converted to node ids when scattered into CSR form. */
+    private final class EdgeList {
+        private int[] data = new int[48];
+        private int size;
+
+        void add(int fromCell, int toCell, int cost) {
+            if (size + 3 > data.length) {
+                data = Arrays.copyOf(data, data.length * 2);
+            }
+            data[size++] = fromCell;
+            data[size++] = toCell;
+            data[size++] = cost;
+        }
+
+        void countSources(int[] degree) {
+            for (int i = 0; i < size; i += 3) {
+                degree[nodeOf(data[i]) + 1]++;
+            }
+        }
+
+        void scatter(int[] cursor, int[] targets, int[] costs) {
+            for (int i = 0; i < size; i += 3) {
+                int position = cursor[nodeOf(data[i])]++;
+                targets[position] = nodeOf(data[i + 1]);
+                costs[position] = data[i + 2];
+            }
+        }
+    }
+}
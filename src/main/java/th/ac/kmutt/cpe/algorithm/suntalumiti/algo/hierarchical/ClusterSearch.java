@@ -0,0 +1,130 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.algo.hierarchical;
+
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical.IndexedMinHeap;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Grid;
+
+import java.util.Arrays;
+
+/**
+ * Dijkstra confined to one rectangular cluster, on local indices. Forward
+ * mode labels cells with the cost from the source; backward mode labels them
+ * with the cost from the cell to the source, excluding the cell's own cost.
+ * Instances are reused through {@link #local()}.
+ */
+final class ClusterSearch {
+    private static final ThreadLocal<ClusterSearch> LOCAL = ThreadLocal.withInitial(ClusterSearch::new);
+    static final int UNREACHED = Integer.MAX_VALUE;
+
+    private int[] distance = new int[0];
+    private int[] parent = new int[0];
+    private IndexedMinHeap heap = new IndexedMinHeap(0);
+    private Grid grid;
+    private int top;
+    private int left;
+    private int height;
+    private int width;
+    private long expandedCount;
+    private long pushedCount;
+
+    static ClusterSearch local() {
+        return LOCAL.get();
+    }
+
+    /**
+     * Searches the window from {@code source}. With a {@code target} cell the
+     * search stops as soon as that cell is settled; pass {@link Grid#NO_CELL}
+     * to label the whole cluster.
+     */
+    void run(Grid grid, ClusterAbstraction.Bounds bounds, int source, int target, boolean backward) {
+        this.grid = grid;
+        this.top = bounds.top;
+        this.left = bounds.left;
+        this.height = bounds.height;
+        this.width = bounds.width;
+        int cells = height * width;
+        if (distance.length < cells) {
+            distance = new int[cells];
+            parent = new int[cells];
+            heap = new IndexedMinHeap(cells);
+        }
+        heap.clear();
+        Arrays.fill(distance, 0, cells, UNREACHED);
+
+        int sourceLocal = toLocal(source);
+        int targetLocal = target == Grid.NO_CELL ? -1 : toLocal(target);
+        distance[sourceLocal] = 0;
+        parent[sourceLocal] = -1;
+        heap.insertOrDecrease(sourceLocal, 0);
+        while (!heap.isEmpty()) {
+            int current = heap.poll();
+            expandedCount++;
+            if (current == targetLocal) {
+                break;
+            }
+            int currentCell = toCell(current);
+            int base = backward ? distance[current] + grid.getCost(currentCell) : distance[current];
+            for (int direction = 0; direction < Grid.DIRECTION_COUNT; direction++) {
+                int neighborCell = grid.neighbor(currentCell, direction);
+                if (neighborCell == Grid.NO_CELL || !contains(neighborCell)) {
+                    continue;
+                }
+                int neighbor = toLocal(neighborCell);
+                int newDistance = backward ? base : base + grid.getCost(neighborCell);
+                if (newDistance < distance[neighbor]) {
+                    distance[neighbor] = newDistance;
+                    parent[neighbor] = current;
+                    heap.insertOrDecrease(neighbor, newDistance);
+                    pushedCount++;
+                }
+            }
+        }
+    }
+
+    /** Cells expanded by this thread's searches so far; callers take differences. */
+    long expandedCount() {
+        return expandedCount;
+    }
+
+    long pushedCount() {
+        return pushedCount;
+    }
+
+    int distanceTo(int cell) {
+        return distance[toLocal(cell)];
+    }
+
+    /**
+     * Writes the forward path ending at {@code target}, source excluded, into
+     * {@code out} starting at {@code offset}; returns the number of cells written.
+     */
+    int pathTo(int target, int[] out, int offset) {
+        int length = pathLength(target);
+        int position = offset + length;
+        for (int current = toLocal(target); parent[current] != -1; current = parent[current]) {
+            out[--position] = toCell(current);
+        }
+        return length;
+    }
+
+    int pathLength(int target) {
+        int length = 0;
+        for (int current = toLocal(target); parent[current] != -1; current = parent[current]) {
+            length++;
+        }
+        return length;
+    }
+
+    private boolean contains(int cell) {
+        int r = grid.rowOf(cell) - top;
+        int c = grid.colOf(cell) - left;
+        return r >= 0 && r < height && c >= 0 && c < width;
+    }
+
+    private int toLocal(int cell) {
+        return (grid.rowOf(cell) - top) * width + (grid.colOf(cell) - left);
+    }
+
+    private int toCell(int local) {
+        return grid.index(top + local / width, left + local % width);
+    }
+}
@@ -0,0 +1,201 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.algo.hierarchical;
+
+import th.ac.kmutt.cpe.algorithm.suntalumiti.ISolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical.IndexedMinHeap;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical.SearchContext;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Cell;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Grid;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Maze;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.PathResult;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.ReachabilityIndex;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.SearchMetrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * HPA*-style solver. The maze is cut into clusters once (see
+ * {@link ClusterAbstraction}); a query links start and goal into the
+ * abstract graph of their clusters, runs Dijkstra over entrance nodes, and
+ * refines only the abstract edges on the chosen route back into cells.
+ *
+ * <p>{@link Mode#EXACT} uses the dense abstraction and returns optimal costs;
+ * {@link Mode#APPROXIMATE} uses sparse entrances, which is much smaller and
+ * faster to build but may return a slightly longer route.
+ */
+public class HierarchicalSolver implements ISolver {
+    public enum Mode { EXACT, APPROXIMATE }
+
+    public static final int DEFAULT_CLUSTER_SIZE = 16;
+
+    private static final ThreadLocal<SearchContext> CONTEXT = ThreadLocal.withInitial(SearchContext::new);
+
+    private final int clusterSize;
+    private final Mode mode;
+
+    public HierarchicalSolver() {
+        this(DEFAULT_CLUSTER_SIZE, Mode.EXACT);
+    }
+
+    public HierarchicalSolver(int clusterSize, Mode mode) {
+        this.clusterSize = clusterSize;
+        this.mode = mode;
+    }
+
+    @Override
+    public String getName() {
+        return mode == Mode.EXACT ? "Hierarchical A* (HPA*, exact)" : "Hierarchical A* (HPA*, approximate)";
+    }
+
+    /** Builds (or fetches) the cached abstraction ahead of the first query. */
+    public ClusterAbstraction prepare(Maze maze) {
+        return ClusterAbstraction.of(maze, clusterSize, mode == Mode.EXACT);
+    }
+
+    @Override
+    public PathResult solve(Maze maze) {
+        try (Grid.Lease lease = maze.getGrid().acquire()) {
+            return search(maze);
+        }
+    }
+
+    private PathResult search(Maze maze) {
+        SearchMetrics.Probe probe = SearchMetrics.start();
+        int start = maze.getStartIndex();
+        int goal = maze.getGoalIndex();
+        if (!ReachabilityIndex.isSolvable(maze)) {
+            return PathResult.notFound(getName(), probe.search(0, 0, 0, 0));
+        }
+        ClusterAbstraction abstraction = prepare(maze);
+        Grid grid = maze.getGrid();
+        int startCluster = abstraction.clusterOf(start);
+        int goalCluster = abstraction.clusterOf(goal);
+        ClusterSearch search = ClusterSearch.local();
+        long cellsExpandedBefore = search.expandedCount();
+        long cellsPushedBefore = search.pushedCount();
+
+        long best = Long.MAX_VALUE;
+        search.run(grid, abstraction.bounds(startCluster), start, Grid.NO_CELL, false);
+        if (startCluster == goalCluster && search.distanceTo(goal) != ClusterSearch.UNREACHED) {
+            best = search.distanceTo(goal);
+        }
+        int[] startCosts = clusterNodeDistances(abstraction, startCluster, search);
+        search.run(grid, abstraction.bounds(goalCluster), goal, Grid.NO_CELL, true);
+        int[] goalCosts = clusterNodeDistances(abstraction, goalCluster, search);
+
+        int nodeCount = abstraction.getNodeCount();
+        int source = nodeCount;
+        SearchContext context = CONTEXT.get();
+        context.reset(nodeCount + 1);
+        IndexedMinHeap open = context.heap();
+        context.update(source, 0, SearchContext.NO_PARENT);
+        for (int i = 0; i < startCosts.length; i++) {
+            if (startCosts[i] != ClusterSearch.UNREACHED) {
+                int node = abstraction.clusterNode(abstraction.clusterNodeStart(startCluster) + i);
+                context.update(node, startCosts[i], source);
+                open.insertOrDecrease(node, startCosts[i]);
+            }
+        }
+        long expanded = 0;
+        long pushed = open.size();
+        int peakOpen = open.size();
+        int bestNode = Grid.NO_CELL;
+        int goalFrom = abstraction.clusterNodeStart(goalCluster);
+        int goalTo = abstraction.clusterNodeEnd(goalCluster);
+        while (!open.isEmpty() && open.peekKey() < best) {
+            int node = open.poll();
+            expanded++;
+            int distance = context.distance(node);
+            for (int i = goalFrom; i < goalTo; i++) {
+                if (abstraction.clusterNode(i) == node && goalCosts[i - goalFrom] != ClusterSearch.UNREACHED
+                        && (long) distance + goalCosts[i - goalFrom] < best) {
+                    best = (long) distance + goalCosts[i - goalFrom];
+                    bestNode = node;
+                }
+            }
+            for (int edge = abstraction.edgeStart(node); edge < abstraction.edgeEnd(node); edge++) {
+                int target = abstraction.edgeTarget(edge);
+                int newDistance = distance + abstraction.edgeCost(edge);
+                if (newDistance < context.distance(target)) {
+                    context.update(target, newDistance, node);
+                    open.insertOrDecrease(target, newDistance);
+                    pushed++;
+                    peakOpen = Math.max(peakOpen, open.size());
+                }
+            }
+        }
+        if (best == Long.MAX_VALUE) {
+            return PathResult.notFound(getName(), probe.search(
+                expanded + search.expandedCount() - cellsExpandedBefore,
+                pushed + search.pushedCount() - cellsPushedBefore, 0, peakOpen));
+        }
+
+        int[] route = refine(abstraction, context, source, bestNode, start, goal, search);
+        List<Cell> path = new ArrayList<>(route.length);
+        int totalCost = 0;
+        for (int i = 0; i < route.length; i++) {
+            path.add(maze.getCell(route[i]));
+            if (i > 0) {
+                totalCost += grid.getCost(route[i]);
+            }
+        }
+        // Abstract-graph and in-cluster work are summed; both are node expansions.
+        SearchMetrics metrics = probe.search(
+            expanded + search.expandedCount() - cellsExpandedBefore,
+            pushed + search.pushedCount() - cellsPushedBefore, 0, peakOpen);
+        return new PathResult(path, totalCost, getName(), metrics);
+    }
+
+    /** Copies the search's labels for the cluster's entrance nodes, in cluster order. */
+    private static int[] clusterNodeDistances(ClusterAbstraction abstraction, int cluster, ClusterSearch search) {
+        int from = abstraction.clusterNodeStart(cluster);
+        int[] distances = new int[abstraction.clusterNodeEnd(cluster) - from];
+        for (int i = 0; i < distances.length; i++) {
+            distances[i] = search.distanceTo(abstraction.nodeCell(abstraction.clusterNode(from + i)));
+        }
+        return distances;
+    }
+
+    /** Expands start &rarr; abstract nodes &rarr; goal into grid cells, start included. */
+    private static int[] refine(ClusterAbstraction abstraction, SearchContext context, int source, int lastNode,
+                                int start, int goal, ClusterSearch search) {
+        int nodeHops = 0;
+        for (int node = lastNode; node != Grid.NO_CELL && node != source; node = context.parent(node)) {
+            nodeHops++;
+        }
+        int[] waypoints = new int[nodeHops + 2];
+        waypoints[0] = start;
+        waypoints[nodeHops + 1] = goal;
+        int position = nodeHops;
+        for (int node = lastNode; node != Grid.NO_CELL && node != source; node = context.parent(node)) {
+            waypoints[position--] = abstraction.nodeCell(node);
+        }
+
+        Grid grid = abstraction.grid();
+        int[] cells = new int[64];
+        cells[0] = start;
+        int length = 1;
+        for (int i = 1; i < waypoints.length; i++) {
+            int from = waypoints[i - 1];
+            int to = waypoints[i];
+            if (from == to) {
+                continue;
+            }
+            int cluster = abstraction.clusterOf(from);
+            if (cluster != abstraction.clusterOf(to)) {
+                cells = ensure(cells, length + 1);
+                cells[length++] = to;
+                continue;
+            }
+            search.run(grid, abstraction.bounds(cluster), from, to, false);
+            cells = ensure(cells, length + search.pathLength(to));
+            length += search.pathTo(to, cells, length);
+        }
+        return Arrays.copyOf(cells, length);
+    }
+
+    private static int[] ensure(int[] cells, int capacity) {
+        return capacity <= cells.length ? cells : Arrays.copyOf(cells, Math.max(capacity, cells.length * 2));
+    }
+}
@@ -0,0 +1,35 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.cache;
+
+/** Point-in-time counters of a {@link SolveCache}. */
+public final class CacheStats {
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final int entries;
+    private final long estimatedBytes;
+
+    public CacheStats(long hits, long misses, long evictions, int entries, long estimatedBytes) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.entries = entries;
+        this.estimatedBytes = estimatedBytes;
+    }
+
+    public long getHits() { return hits; }
+    public long getMisses() { return misses; }
+    public long getEvictions() { return evictions; }
+    public int getEntries() { return entries; }
+    public long getEstimatedBytes() { return estimatedBytes; }
+
+    public double getHitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("hits=%d, misses=%d, hitRate=%.2f, evictions=%d, entries=%d, bytes~%d",
+            hits, misses, getHitRate(), evictions, entries, estimatedBytes);
+    }
+}
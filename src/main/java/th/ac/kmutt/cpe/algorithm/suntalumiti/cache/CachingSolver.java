@@ -0,0 +1,46 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.cache;
+
+import th.ac.kmutt.cpe.algorithm.suntalumiti.CancellationToken;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.ISolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.ProgressListener;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Maze;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.PathResult;
+
+/**
+ * {@link ISolver} decorator that answers repeated queries from a
+ * {@link SolveCache}. Several solvers may share one cache; entries are keyed
+ * by the delegate instance, so differently configured solvers that share a
+ * display name never see each other's results.
+ */
+public class CachingSolver implements ISolver {
+    private final ISolver delegate;
+    private final SolveCache cache;
+
+    public CachingSolver(ISolver delegate, SolveCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    public ISolver getDelegate() {
+        return delegate;
+    }
+
+    public SolveCache getCache() {
+        return cache;
+    }
+
+    @Override
+    public PathResult solve(Maze maze) {
+        return cache.get(maze, delegate, () -> delegate.solve(maze));
+    }
+
+    @Override
+    public PathResult solve(Maze maze, CancellationToken token, ProgressListener progress) {
+        return cache.get(maze, delegate, token, () -> delegate.solve(maze, token, progress));
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+}
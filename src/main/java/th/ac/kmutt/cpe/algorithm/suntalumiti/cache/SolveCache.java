@@ -0,0 +1,238 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.cache;
+
+import th.ac.kmutt.cpe.algorithm.suntalumiti.CancellationToken;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Maze;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.PathResult;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * LRU cache of solve results, bounded by entry count and by an estimate of
+ * the retained bytes. Keys combine the maze's content hash and size, the
+ * start and goal cells and a solver key, so reloading the same maze file
+ * hits the same entries. Concurrent requests for one key share a single
+ * computation, as long as its owner cannot be cancelled: a result cut short
+ * by one caller's token is never handed to another.
+ */
+public class SolveCache {
+    public static final int DEFAULT_MAX_ENTRIES = 1024;
+    public static final long DEFAULT_MAX_BYTES = 64L << 20;
+
+    /** Rough retained size of a cached path: list slot plus a {@code Cell}. */
+    private static final int BYTES_PER_PATH_CELL = 40;
+    private static final int BYTES_PER_ENTRY = 160;
+    private static final long WAIT_POLL_MILLIS = 10;
+
+    static final class Key {
+        final long contentHash;
+        final int rows;
+        final int cols;
+        final int start;
+        final int goal;
+        final Object solver;
+
+        Key(Maze maze, Object solver) {
+            this.contentHash = maze.getContentHash();
+            this.rows = maze.getRows();
+            this.cols = maze.getCols();
+            this.start = maze.getStartIndex();
+            this.goal = maze.getGoalIndex();
+            this.solver = solver;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return contentHash == key.contentHash && rows == key.rows && cols == key.cols
+                && start == key.start && goal == key.goal && solver.equals(key.solver);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(contentHash, rows, cols, start, goal, solver);
+        }
+    }
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Key, PathResult> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Key, CompletableFuture<PathResult>> inFlight = new ConcurrentHashMap<>();
+    private long bytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public SolveCache() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BYTES);
+    }
+
+    public SolveCache(int maxEntries, long maxBytes) {
+        if (maxEntries < 1 || maxBytes < 1) {
+            throw new IllegalArgumentException("Cache bounds must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the cached result for the key, computing it on a miss. Cancelled
+     * results are handed back but never stored. {@code solverKey} is compared
+     * with {@code equals} and must identify the solver's configuration, not
+     * just its display name; {@link CachingSolver} passes the solver itself.
+     */
+    public PathResult get(Maze maze, Object solverKey, Supplier<PathResult> solve) {
+        return get(maze, solverKey, CancellationToken.NONE, solve);
+    }
+
+    /**
+     * Like {@link #get(Maze, Object, Supplier)} for a solve that honours
+     * {@code token}. A cancellable computation is not shared with concurrent
+     * callers, and a caller waiting on someone else's computation stops
+     * waiting once its own token is cancelled, falling back to
+     * {@code solve}, which then returns its cancelled result.
+     */
+    public PathResult get(Maze maze, Object solverKey, CancellationToken token, Supplier<PathResult> solve) {
+        Key key = new Key(maze, solverKey);
+        PathResult cached = lookup(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        if (token.isCancellable()) {
+            CompletableFuture<PathResult> running = inFlight.get(key);
+            PathResult shared = running == null ? null : await(running, token);
+            if (shared != null) {
+                hits.increment();
+                return shared;
+            }
+            misses.increment();
+            return compute(key, solve);
+        }
+        CompletableFuture<PathResult> mine = new CompletableFuture<>();
+        CompletableFuture<PathResult> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            hits.increment();
+            return running.join();
+        }
+        misses.increment();
+        try {
+            PathResult result = compute(key, solve);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /** The shared result, or null if {@code token} was cancelled first. */
+    private static PathResult await(CompletableFuture<PathResult> running, CancellationToken token) {
+        while (!token.isCancelled()) {
+            try {
+                return running.get(WAIT_POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // Poll the token again.
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            } catch (ExecutionException e) {
+                throw new CompletionException(e.getCause());
+            }
+        }
+        return null;
+    }
+
+    private PathResult compute(Key key, Supplier<PathResult> solve) {
+        PathResult result = freeze(solve.get());
+        if (!result.isCancelled()) {
+            store(key, result);
+        }
+        return result;
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            entries.clear();
+            bytes = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public CacheStats stats() {
+        lock.lock();
+        try {
+            return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), entries.size(), bytes);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private PathResult lookup(Key key) {
+        lock.lock();
+        try {
+            return entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void store(Key key, PathResult result) {
+        long weight = weigh(result);
+        if (weight > maxBytes) {
+            return;
+        }
+        lock.lock();
+        try {
+            PathResult previous = entries.put(key, result);
+            if (previous != null) {
+                bytes -= weigh(previous);
+            }
+            bytes += weight;
+            Iterator<PathResult> eldest = entries.values().iterator();
+            while (entries.size() > maxEntries || bytes > maxBytes) {
+                bytes -= weigh(eldest.next());
+                eldest.remove();
+                evictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static long weigh(PathResult result) {
+        return BYTES_PER_ENTRY + (long) result.getPath().size() * BYTES_PER_PATH_CELL;
+    }
+
+    /** Cached results are shared between callers, so their paths must not be mutable. */
+    private static PathResult freeze(PathResult result) {
+        return new PathResult(
+            Collections.unmodifiableList(result.getPath()),
+            result.getTotalCost(),
+            result.getAlgorithmUsed(),
+            result.getExecutionTime(),
+            result.isCancelled(),
+            result.getMetrics()
+        );
+    }
+}
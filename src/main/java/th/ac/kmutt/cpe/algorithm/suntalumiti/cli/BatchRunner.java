@@ -0,0 +1,220 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.cli;
+
+import th.ac.kmutt.cpe.algorithm.suntalumiti.ISolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.metrics.MeteredSolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.metrics.MetricsRegistry;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Maze;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.PathResult;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Headless runner: solves every maze in a directory with a set of solvers
+ * and streams one CSV or JSON line per (maze, solver) as soon as each maze
+ * finishes. Files are listed lazily and at most {@code --in-flight} mazes are
+ * loaded at a time, so memory stays flat however large the directory is.
+ * {@code --metrics} also writes the aggregated {@link MetricsRegistry} in
+ * Prometheus text format once the run ends.
+ *
+ * <pre>
+ * java -cp target/classes th.ac.kmutt.cpe.algorithm.suntalumiti.cli.BatchRunner \
+ *     src/main/resources/data --solvers astar-indexed,dijkstra-bucket --threads 4 --format json
+ * </pre>
+ */
+public class BatchRunner {
+    public enum Format { CSV, JSON }
+
+    static final String CSV_HEADER = "file,solver,found,cost,steps,nanos,expanded,error";
+
+    private final List<String> solverKeys;
+    private final int threads;
+    private final int maxInFlight;
+    private final Format format;
+    private final PrintWriter out;
+    private final MetricsRegistry metrics = new MetricsRegistry();
+
+    public BatchRunner(List<String> solverKeys, int threads, int maxInFlight, Format format, Writer out) {
+        if (threads < 1 || maxInFlight < 1) {
+            throw new IllegalArgumentException("Thread and in-flight limits must be positive");
+        }
+        for (String key : solverKeys) {
+            SolverRegistry.create(key);
+        }
+        this.solverKeys = List.copyOf(solverKeys);
+        this.threads = threads;
+        this.maxInFlight = maxInFlight;
+        this.format = format;
+        this.out = out instanceof PrintWriter ? (PrintWriter) out : new PrintWriter(out);
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 1) {
+            usage();
+        }
+        Path directory = Path.of(args[0]);
+        List<String> solvers = List.of("astar-indexed");
+        int threads = Runtime.getRuntime().availableProcessors();
+        int inFlight = -1;
+        Format format = Format.CSV;
+        Path metricsFile = null;
+        for (int i = 1; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : null;
+            if (value == null) {
+                usage();
+            }
+            switch (args[i++]) {
+                case "--solvers":
+                    solvers = value.equals("all") ? SolverRegistry.KEYS : Arrays.asList(value.split(","));
+                    break;
+                case "--threads": threads = Integer.parseInt(value); break;
+                case "--in-flight": inFlight = Integer.parseInt(value); break;
+                case "--format": format = Format.valueOf(value.toUpperCase(Locale.ROOT)); break;
+                case "--metrics": metricsFile = Path.of(value); break;
+                default: usage();
+            }
+        }
+        Writer stdout = new OutputStreamWriter(System.out, StandardCharsets.UTF_8);
+        BatchRunner runner = new BatchRunner(solvers, threads, inFlight < 0 ? 2 * threads : inFlight, format, stdout);
+        runner.run(directory);
+        if (metricsFile != null) {
+            try (Writer writer = Files.newBufferedWriter(metricsFile, StandardCharsets.UTF_8)) {
+                runner.getMetrics().writePrometheus(writer);
+            }
+        }
+    }
+
+    private static void usage() {
+        System.err.println("Usage: BatchRunner <maze dir> [--solvers key,...|all] [--threads n] [--in-flight n] [--format csv|json] [--metrics file.prom]");
+        System.err.println("Solvers: " + String.join(", ", SolverRegistry.KEYS));
+        System.exit(2);
+    }
+
+    /** Aggregated search metrics of every solve this runner has made. */
+    public MetricsRegistry getMetrics() {
+        return metrics;
+    }
+
+    /** Solves every {@code *.txt} / {@code *.mzb} file in {@code directory}; returns the number of mazes run. */
+    public int run(Path directory) throws IOException, InterruptedException {
+        if (format == Format.CSV) {
+            out.println(CSV_HEADER);
+            out.flush();
+        }
+        // JDK 17 has no virtual threads; a fixed pool plus the permit bound keeps the queue short.
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        Semaphore permits = new Semaphore(maxInFlight);
+        int submitted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.{txt,mzb}")) {
+            for (Path file : files) {
+                permits.acquire();
+                submitted++;
+                executor.execute(() -> {
+                    try {
+                        emit(solveAll(file));
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        }
+        return submitted;
+    }
+
+    private List<String> solveAll(Path file) {
+        List<String> lines = new ArrayList<>(solverKeys.size());
+        String name = file.getFileName().toString();
+        Maze maze;
+        try {
+            maze = Maze.load(file);
+        } catch (IOException | RuntimeException e) {
+            lines.add(line(name, "", null, 0, String.valueOf(e.getMessage())));
+            return lines;
+        }
+        for (String key : solverKeys) {
+            try {
+                ISolver solver = new MeteredSolver(SolverRegistry.create(key), metrics);
+                long start = System.nanoTime();
+                PathResult result = solver.solve(maze);
+                long nanos = System.nanoTime() - start;
+                lines.add(line(name, key, result, nanos, null));
+            } catch (RuntimeException e) {
+                lines.add(line(name, key, null, 0, e.toString()));
+            }
+        }
+        return lines;
+    }
+
+    private void emit(List<String> lines) {
+        synchronized (out) {
+            for (String line : lines) {
+                out.println(line);
+            }
+            out.flush();
+        }
+    }
+
+    private String line(String file, String solver, PathResult result, long nanos, String error) {
+        boolean found = result != null && result.isFound();
+        String cost = found ? String.valueOf(result.getTotalCost()) : "";
+        String steps = found ? String.valueOf(result.getPath().size()) : "";
+        long expanded = result == null ? 0 : result.getMetrics().getNodesExpanded();
+        if (format == Format.JSON) {
+            return "{\"file\":" + jsonString(file)
+                + ",\"solver\":" + jsonString(solver)
+                + ",\"found\":" + found
+                + ",\"cost\":" + (found ? cost : "null")
+                + ",\"steps\":" + (found ? steps : "null")
+                + ",\"nanos\":" + nanos
+                + ",\"expanded\":" + expanded
+                + ",\"error\":" + (error == null ? "null" : jsonString(error)) + "}";
+        }
+        return String.join(",", csvField(file), csvField(solver), String.valueOf(found),
+            cost, steps, String.valueOf(nanos), String.valueOf(expanded), error == null ? "" : csvField(error));
+    }
+
+    static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    static String jsonString(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': sb.append("\\\""); break;
+                case '\\': sb.append("\\\\"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '\t': sb.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
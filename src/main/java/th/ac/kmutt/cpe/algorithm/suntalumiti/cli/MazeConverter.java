@@ -0,0 +1,62 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.cli;
+
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Maze;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.MazeBinaryFormat;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.MazeWriter;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Converts mazes between the text format and {@link MazeBinaryFormat}. The
+ * direction follows the input: text becomes {@code .mzb}, binary becomes
+ * {@code .txt}. Given a directory, every maze file in it is converted into
+ * the output directory.
+ *
+ * <pre>
+ * java -cp target/classes th.ac.kmutt.cpe.algorithm.suntalumiti.cli.MazeConverter src/main/resources/data out/
+ * </pre>
+ */
+public class MazeConverter {
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: MazeConverter <input file|dir> <output file|dir>");
+            System.exit(2);
+        }
+        Path input = Path.of(args[0]);
+        Path output = Path.of(args[1]);
+        if (Files.isDirectory(input)) {
+            Files.createDirectories(output);
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(input, "*.{txt,mzb}")) {
+                for (Path file : files) {
+                    convert(file, output.resolve(targetName(file)));
+                }
+            }
+        } else {
+            convert(input, Files.isDirectory(output) ? output.resolve(targetName(input)) : output);
+        }
+    }
+
+    static void convert(Path input, Path output) throws IOException {
+        Maze maze = Maze.load(input);
+        if (isBinaryName(output)) {
+            MazeBinaryFormat.write(maze, output);
+        } else {
+            MazeWriter.write(maze, output);
+        }
+        System.out.println(input + " -> " + output);
+    }
+
+    private static Path targetName(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String base = dot < 0 ? name : name.substring(0, dot);
+        return Path.of(base + (isBinaryName(file) ? ".txt" : MazeBinaryFormat.FILE_EXTENSION));
+    }
+
+    private static boolean isBinaryName(Path file) {
+        return file.getFileName().toString().endsWith(MazeBinaryFormat.FILE_EXTENSION);
+    }
+}
@@ -0,0 +1,60 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.cli;
+
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.MazeGenerator;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Writes a {@link MazeGenerator} maze straight to disk, one row at a time, as
+ * text or {@code .mzb} depending on the output extension.
+ *
+ * <pre>
+ * java -cp target/classes th.ac.kmutt.cpe.algorithm.suntalumiti.cli.MazeGeneratorCli \
+ *     20000 20000 out/m20000.mzb --seed 7 --style rooms --density 0.2 --costs 1-9 --distribution skewed
+ * </pre>
+ */
+public class MazeGeneratorCli {
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            usage();
+        }
+        int rows = Integer.parseInt(args[0]);
+        int cols = Integer.parseInt(args[1]);
+        Path output = Path.of(args[2]);
+        long seed = 42;
+        MazeGenerator generator = new MazeGenerator(rows, cols, seed);
+        for (int i = 3; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : null;
+            if (value == null) {
+                usage();
+            }
+            switch (args[i++]) {
+                case "--seed": seed = Long.parseLong(value); break;
+                case "--density": generator = generator.withWallDensity(Double.parseDouble(value)); break;
+                case "--style": generator = generator.withStyle(MazeGenerator.Style.valueOf(value.toUpperCase(Locale.ROOT))); break;
+                case "--room-size": generator = generator.withRoomSize(Integer.parseInt(value)); break;
+                case "--costs": {
+                    String[] range = value.split("-");
+                    generator = generator.withCosts(Integer.parseInt(range[0]), Integer.parseInt(range[range.length - 1]));
+                    break;
+                }
+                case "--distribution":
+                    generator = generator.withCostDistribution(MazeGenerator.CostDistribution.valueOf(value.toUpperCase(Locale.ROOT)));
+                    break;
+                default: usage();
+            }
+        }
+        generator = generator.withSeed(seed);
+        long start = System.nanoTime();
+        generator.write(output);
+        System.out.printf("%s: %dx%d in %d ms%n", output, rows, cols, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static void usage() {
+        System.err.println("Usage: MazeGeneratorCli <rows> <cols> <output.txt|.mzb> [--seed n] [--density 0..1]"
+            + " [--style scattered|rooms|corridors] [--room-size n] [--costs min-max] [--distribution uniform|skewed]");
+        System.exit(2);
+    }
+}
@@ -0,0 +1,48 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.cli;
+
+import th.ac.kmutt.cpe.algorithm.suntalumiti.ISolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical.AStarSolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical.AnytimeAStarSolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical.BidirectionalDijkstraSolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical.BucketDijkstraSolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical.DeltaSteppingSolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical.DijkstraSolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical.IndexedAStarSolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical.LandmarkHeuristic;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical.LpaStarSolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.ga.GeneticSolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.hierarchical.HierarchicalSolver;
+
+import java.util.List;
+
+/** Short command-line keys for every solver, shared by the CLI tools and benchmarks. */
+public final class SolverRegistry {
+    public static final List<String> KEYS = List.of(
+        "astar", "astar-indexed", "astar-alt", "ara",
+        "dijkstra", "dijkstra-bucket", "dijkstra-offheap", "dijkstra-bidirectional", "dijkstra-delta",
+        "lpa", "genetic", "hpa-exact", "hpa-approximate"
+    );
+
+    private SolverRegistry() {
+    }
+
+    /** Returns a new solver instance; stateful solvers must not be shared between threads. */
+    public static ISolver create(String key) {
+        switch (key) {
+            case "astar": return new AStarSolver();
+            case "astar-indexed": return new IndexedAStarSolver();
+            case "astar-alt": return new IndexedAStarSolver(new LandmarkHeuristic());
+            case "ara": return new AnytimeAStarSolver();
+            case "dijkstra": return new DijkstraSolver();
+            case "dijkstra-bucket": return new BucketDijkstraSolver();
+            case "dijkstra-offheap": return new BucketDijkstraSolver(BucketDijkstraSolver.QueueKind.AUTO, BucketDijkstraSolver.Storage.OFF_HEAP);
+            case "dijkstra-bidirectional": return new BidirectionalDijkstraSolver();
+            case "dijkstra-delta": return new DeltaSteppingSolver();
+            case "lpa": return new LpaStarSolver();
+            case "genetic": return new GeneticSolver();
+            case "hpa-exact": return new HierarchicalSolver(HierarchicalSolver.DEFAULT_CLUSTER_SIZE, HierarchicalSolver.Mode.EXACT);
+            case "hpa-approximate": return new HierarchicalSolver(HierarchicalSolver.DEFAULT_CLUSTER_SIZE, HierarchicalSolver.Mode.APPROXIMATE);
+            default: throw new IllegalArgumentException("Unknown solver: " + key);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of non-negative longs in power-of-two buckets: bucket
+ * {@code b} counts values in {@code [2^(b-1), 2^b)}, bucket 0 counts zeros.
+ * Coarse, but recording is a couple of adds and never allocates.
+ */
+public final class LogHistogram {
+    static final int BUCKETS = 64;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+
+    public LogHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long value) {
+        if (value < 0) {
+            return;
+        }
+        buckets[bucketOf(value)].increment();
+        count.increment();
+        sum.add(value);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /** Exclusive upper bound of bucket {@code b}. */
+    public static long upperBound(int bucket) {
+        return bucket == BUCKETS - 1 ? Long.MAX_VALUE : 1L << bucket;
+    }
+
+    public long bucketCount(int bucket) {
+        return buckets[bucket].sum();
+    }
+
+    /** Upper bound of the bucket holding the {@code q}-quantile, or 0 when empty. */
+    public long quantileUpperBound(double q) {
+        long total = getCount();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(q * total);
+        long seen = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            seen += buckets[b].sum();
+            if (seen >= rank && seen > 0) {
+                return upperBound(b);
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    static int bucketOf(long value) {
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(value));
+    }
+}
@@ -0,0 +1,37 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.metrics;
+
+import th.ac.kmutt.cpe.algorithm.suntalumiti.CancellationToken;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.ISolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.ProgressListener;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Maze;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.PathResult;
+
+/** {@link ISolver} decorator that records every result into a {@link MetricsRegistry}. */
+public class MeteredSolver implements ISolver {
+    private final ISolver delegate;
+    private final MetricsRegistry registry;
+
+    public MeteredSolver(ISolver delegate, MetricsRegistry registry) {
+        this.delegate = delegate;
+        this.registry = registry;
+    }
+
+    @Override
+    public PathResult solve(Maze maze) {
+        PathResult result = delegate.solve(maze);
+        registry.record(delegate.getName(), result);
+        return result;
+    }
+
+    @Override
+    public PathResult solve(Maze maze, CancellationToken token, ProgressListener progress) {
+        PathResult result = delegate.solve(maze, token, progress);
+        registry.record(delegate.getName(), result);
+        return result;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+}
@@ -0,0 +1,136 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.metrics;
+
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.PathResult;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.SearchMetrics;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Aggregates {@link SearchMetrics} per solver name into counters and
+ * log-scale histograms. Recording is lock-free; {@link #writePrometheus}
+ * renders everything in the Prometheus text exposition format for scraping.
+ */
+public class MetricsRegistry {
+
+    /** Aggregates for one solver name. */
+    public static final class SolverSeries {
+        private final LongAdder solves = new LongAdder();
+        private final LongAdder found = new LongAdder();
+        private final LongAdder cancelled = new LongAdder();
+        private final LongAdder nodesExpanded = new LongAdder();
+        private final LongAdder nodesPushed = new LongAdder();
+        private final LongAdder stalePops = new LongAdder();
+        private final LongAdder generations = new LongAdder();
+        private final LongAdder evaluations = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+        private final LogHistogram wallNanos = new LogHistogram();
+        private final LogHistogram expanded = new LogHistogram();
+        private final LogHistogram peakOpenSize = new LogHistogram();
+
+        void record(PathResult result) {
+            SearchMetrics m = result.getMetrics();
+            solves.increment();
+            if (result.isFound()) found.increment();
+            if (result.isCancelled()) cancelled.increment();
+            nodesExpanded.add(m.getNodesExpanded());
+            nodesPushed.add(m.getNodesPushed());
+            stalePops.add(m.getStalePops());
+            generations.add(m.getGenerations());
+            evaluations.add(m.getEvaluations());
+            if (m.getAllocatedBytes() > 0) allocatedBytes.add(m.getAllocatedBytes());
+            wallNanos.record(m.getWallNanos());
+            expanded.record(m.getNodesExpanded());
+            peakOpenSize.record(m.getPeakOpenSize());
+        }
+
+        public long getSolves() { return solves.sum(); }
+        public long getFound() { return found.sum(); }
+        public long getCancelled() { return cancelled.sum(); }
+        public long getNodesExpanded() { return nodesExpanded.sum(); }
+        public long getNodesPushed() { return nodesPushed.sum(); }
+        public long getStalePops() { return stalePops.sum(); }
+        public long getGenerations() { return generations.sum(); }
+        public long getEvaluations() { return evaluations.sum(); }
+        public long getAllocatedBytes() { return allocatedBytes.sum(); }
+        public LogHistogram getWallNanos() { return wallNanos; }
+        public LogHistogram getExpanded() { return expanded; }
+        public LogHistogram getPeakOpenSize() { return peakOpenSize; }
+    }
+
+    private final Map<String, SolverSeries> series = new ConcurrentHashMap<>();
+
+    public void record(String solver, PathResult result) {
+        series.computeIfAbsent(solver, s -> new SolverSeries()).record(result);
+    }
+
+    public void record(PathResult result) {
+        record(result.getAlgorithmUsed(), result);
+    }
+
+    /** Aggregates for the solver, or null if it has not recorded anything. */
+    public SolverSeries get(String solver) {
+        return series.get(solver);
+    }
+
+    public void writePrometheus(Appendable out) throws IOException {
+        Map<String, SolverSeries> sorted = new TreeMap<>(series);
+        counter(out, sorted, "maze_solves_total", "Solves recorded", SolverSeries::getSolves);
+        counter(out, sorted, "maze_solves_found_total", "Solves that found a path", SolverSeries::getFound);
+        counter(out, sorted, "maze_solves_cancelled_total", "Solves stopped by a cancellation token", SolverSeries::getCancelled);
+        counter(out, sorted, "maze_nodes_expanded_total", "Search nodes expanded", SolverSeries::getNodesExpanded);
+        counter(out, sorted, "maze_nodes_pushed_total", "Open-list inserts and decrease-keys", SolverSeries::getNodesPushed);
+        counter(out, sorted, "maze_stale_pops_total", "Outdated open-list entries skipped", SolverSeries::getStalePops);
+        counter(out, sorted, "maze_ga_generations_total", "GA generations evolved", SolverSeries::getGenerations);
+        counter(out, sorted, "maze_ga_evaluations_total", "GA chromosome evaluations", SolverSeries::getEvaluations);
+        counter(out, sorted, "maze_allocated_bytes_total", "Bytes allocated by solving threads", SolverSeries::getAllocatedBytes);
+        histogram(out, sorted, "maze_solve_duration_nanoseconds", "Solve wall time", SolverSeries::getWallNanos);
+        histogram(out, sorted, "maze_nodes_expanded", "Nodes expanded per solve", SolverSeries::getExpanded);
+        histogram(out, sorted, "maze_peak_open_size", "Peak open-list size per solve", SolverSeries::getPeakOpenSize);
+    }
+
+    private static void counter(Appendable out, Map<String, SolverSeries> sorted, String name, String help,
+                                ToLongFunction<SolverSeries> value) throws IOException {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(" counter\n");
+        for (Map.Entry<String, SolverSeries> e : sorted.entrySet()) {
+            out.append(name).append("{solver=").append(label(e.getKey())).append("} ")
+                .append(Long.toString(value.applyAsLong(e.getValue()))).append('\n');
+        }
+    }
+
+    private static void histogram(Appendable out, Map<String, SolverSeries> sorted, String name, String help,
+                                  Function<SolverSeries, LogHistogram> histogramOf) throws IOException {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(" histogram\n");
+        for (Map.Entry<String, SolverSeries> e : sorted.entrySet()) {
+            LogHistogram h = histogramOf.apply(e.getValue());
+            String solver = label(e.getKey());
+            long cumulative = 0;
+            int last = LogHistogram.BUCKETS - 1;
+            while (last > 0 && h.bucketCount(last) == 0) {
+                last--;
+            }
+            // Bucket b holds values < 2^b, so 2^b - 1 is an inclusive "le" bound for integers.
+            for (int b = 0; b <= last; b++) {
+                cumulative += h.bucketCount(b);
+                out.append(name).append("_bucket{solver=").append(solver).append(",le=\"")
+                    .append(Long.toString(LogHistogram.upperBound(b) - 1)).append("\"} ")
+                    .append(Long.toString(cumulative)).append('\n');
+            }
+            out.append(name).append("_bucket{solver=").append(solver).append(",le=\"+Inf\"} ")
+                .append(Long.toString(h.getCount())).append('\n');
+            out.append(name).append("_sum{solver=").append(solver).append("} ").append(Long.toString(h.getSum())).append('\n');
+            out.append(name).append("_count{solver=").append(solver).append("} ").append(Long.toString(h.getCount())).append('\n');
+        }
+    }
+
+    private static String label(String value) {
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n") + '"';
+    }
+}
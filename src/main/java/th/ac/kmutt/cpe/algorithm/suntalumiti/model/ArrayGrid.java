@@ -0,0 +1,49 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.model;
+
+/**
+ * Heap-backed {@link Grid}: costs as unsigned bytes and walls as a bitset, so
+ * a grid costs roughly one byte and one bit per cell.
+ */
+public class ArrayGrid extends Grid {
+    private final byte[] costs;
+    private final long[] walls;
+
+    public ArrayGrid(int rows, int cols) {
+        this(rows, cols, new byte[checkedSize(rows, cols)], new long[(checkedSize(rows, cols) + 63) >>> 6]);
+    }
+
+    /** Adopts pre-filled storage; the arrays may be longer than {@code rows * cols}. */
+    ArrayGrid(int rows, int cols, byte[] costs, long[] walls) {
+        super(rows, cols);
+        if (costs.length < size() || walls.length < (size() + 63) >>> 6) {
+            throw new IllegalArgumentException("Storage too small for a " + rows + "x" + cols + " grid");
+        }
+        this.costs = costs;
+        this.walls = walls;
+    }
+
+    @Override
+    public int getCost(int index) {
+        return costs[index] & 0xFF;
+    }
+
+    @Override
+    public boolean isWall(int index) {
+        return (walls[index >>> 6] & (1L << index)) != 0;
+    }
+
+    @Override
+    void setCost(int index, int cost) {
+        checkCost(cost, MAX_COST);
+        costs[index] = (byte) cost;
+    }
+
+    @Override
+    void setWall(int index, boolean wall) {
+        if (wall) {
+            walls[index >>> 6] |= 1L << index;
+        } else {
+            walls[index >>> 6] &= ~(1L << index);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.model;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link Grid} over byte buffers, used for memory-mapped binary mazes and for
+ * off-heap grids from {@link #allocateDirect}. Costs are packed 4 bits (low
+ * nibble first) or 8 bits per cell; walls are a bitmap, least significant bit
+ * first. Nothing is copied onto the heap.
+ *
+ * <p>An {@link #allocateDirect} grid is freed by {@link #close()}, which
+ * first waits for every {@link #acquire() lease} to be released. Reads after
+ * that throw {@link IllegalStateException}.
+ */
+public class BufferGrid extends Grid implements AutoCloseable {
+    private volatile ByteBuffer costs;
+    private volatile ByteBuffer walls;
+    private final int costBits;
+    private final boolean owned;
+    private final Lease lease = this::release;
+    private int leases;
+    private boolean closed;
+
+    public BufferGrid(int rows, int cols, int costBits, ByteBuffer costs, ByteBuffer walls) {
+        this(rows, cols, costBits, costs, walls, false);
+    }
+
+    private BufferGrid(int rows, int cols, int costBits, ByteBuffer costs, ByteBuffer walls, boolean owned) {
+        super(rows, cols);
+        if (costBits != 4 && costBits != 8) {
+            throw new IllegalArgumentException("Unsupported cost width: " + costBits + " bits");
+        }
+        if (costs.capacity() < costBytes(size(), costBits) || walls.capacity() < wallBytes(size())) {
+            throw new IllegalArgumentException("Storage too small for a " + rows + "x" + cols + " grid");
+        }
+        this.costs = costs;
+        this.walls = walls;
+        this.costBits = costBits;
+        this.owned = owned;
+    }
+
+    /**
+     * Empty off-heap grid (all cells open with cost 0) of about one byte, or
+     * half a byte with 4-bit costs, plus one bit per cell. {@link #close()}
+     * frees it.
+     */
+    public static BufferGrid allocateDirect(int rows, int cols, int costBits) {
+        if (costBits != 4 && costBits != 8) {
+            throw new IllegalArgumentException("Unsupported cost width: " + costBits + " bits");
+        }
+        long cells = checkedSize(rows, cols);
+        ByteBuffer costs = DirectMemory.allocate(costBytes(cells, costBits));
+        ByteBuffer walls = DirectMemory.allocate(wallBytes(cells));
+        return new BufferGrid(rows, cols, costBits, costs, walls, true);
+    }
+
+    public static long costBytes(long cells, int costBits) {
+        return costBits == 8 ? cells : (cells + 1) >>> 1;
+    }
+
+    public static long wallBytes(long cells) {
+        return (cells + 7) >>> 3;
+    }
+
+    public int getCostBits() {
+        return costBits;
+    }
+
+    public boolean isReadOnly() {
+        return costs().isReadOnly() || walls().isReadOnly();
+    }
+
+    @Override
+    public int getCost(int index) {
+        ByteBuffer costs = costs();
+        if (costBits == 8) {
+            return costs.get(index) & 0xFF;
+        }
+        return (costs.get(index >>> 1) >>> ((index & 1) << 2)) & 0xF;
+    }
+
+    @Override
+    public boolean isWall(int index) {
+        return (walls().get(index >>> 3) & (1 << (index & 7))) != 0;
+    }
+
+    @Override
+    void setCost(int index, int cost) {
+        checkWritable();
+        ByteBuffer costs = costs();
+        if (costBits == 8) {
+            checkCost(cost, MAX_COST);
+            costs.put(index, (byte) cost);
+        } else {
+            checkCost(cost, 0xF);
+            int shift = (index & 1) << 2;
+            int packed = costs.get(index >>> 1);
+            costs.put(index >>> 1, (byte) ((packed & ~(0xF << shift)) | (cost << shift)));
+        }
+    }
+
+    @Override
+    void setWall(int index, boolean wall) {
+        checkWritable();
+        ByteBuffer walls = walls();
+        int bits = walls.get(index >>> 3);
+        int mask = 1 << (index & 7);
+        walls.put(index >>> 3, (byte) (wall ? bits | mask : bits & ~mask));
+    }
+
+    /** Counts a reader; {@link #close()} waits until every lease is closed. */
+    @Override
+    public synchronized Lease acquire() {
+        if (closed) {
+            throw new IllegalStateException("Grid is closed");
+        }
+        leases++;
+        return lease;
+    }
+
+    private synchronized void release() {
+        if (--leases == 0) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * Releases storage from {@link #allocateDirect} once every lease is
+     * closed; buffers supplied by the caller are left alone. Must not be
+     * called by a thread holding a lease on this grid.
+     */
+    @Override
+    public synchronized void close() {
+        if (!owned || closed) {
+            return;
+        }
+        closed = true;
+        boolean interrupted = false;
+        while (leases > 0) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        ByteBuffer releasedCosts = costs;
+        ByteBuffer releasedWalls = walls;
+        costs = null;
+        walls = null;
+        DirectMemory.release(releasedCosts);
+        DirectMemory.release(releasedWalls);
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ByteBuffer costs() {
+        ByteBuffer buffer = costs;
+        if (buffer == null) {
+            throw new IllegalStateException("Grid is closed");
+        }
+        return buffer;
+    }
+
+    private ByteBuffer walls() {
+        ByteBuffer buffer = walls;
+        if (buffer == null) {
+            throw new IllegalStateException("Grid is closed");
+        }
+        return buffer;
+    }
+
+    private void checkWritable() {
+        if (isReadOnly()) {
+            throw new UnsupportedOperationException("Grid is backed by a read-only buffer");
+        }
+    }
+}
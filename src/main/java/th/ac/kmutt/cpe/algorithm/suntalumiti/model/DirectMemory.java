@@ -0,0 +1,64 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.model;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Allocation and explicit release of direct (off-heap) buffers. Java 17 has
+ * no finalized {@code MemorySegment} API, so release goes through
+ * {@code sun.misc.Unsafe#invokeCleaner}; where that is unavailable, release
+ * is a no-op and the memory is reclaimed when the buffer is collected.
+ */
+public final class DirectMemory {
+    private static final MethodHandle INVOKE_CLEANER = findCleaner();
+
+    private DirectMemory() {
+    }
+
+    /** Zero-filled native-order direct buffer. */
+    public static ByteBuffer allocate(long bytes) {
+        if (bytes < 0 || bytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Direct buffer size out of range: " + bytes);
+        }
+        return ByteBuffer.allocateDirect((int) bytes).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Frees a buffer returned by {@link #allocate} right away. The buffer, and
+     * every view of it, must not be touched afterwards.
+     */
+    public static void release(ByteBuffer buffer) {
+        if (buffer == null || !buffer.isDirect() || INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invokeExact(buffer);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Could not release direct buffer", e);
+        }
+    }
+
+    public static boolean canRelease() {
+        return INVOKE_CLEANER != null;
+    }
+
+    private static MethodHandle findCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            Object unsafe = field.get(null);
+            return MethodHandles.lookup()
+                .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                .bindTo(unsafe);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.model;
+
+/**
+ * Row-major primitive storage for a maze. A cell is addressed by a single int
+ * index ({@code row * cols + col}). Subclasses decide where costs and walls
+ * live: {@link ArrayGrid} on the heap, {@link BufferGrid} in a (possibly
+ * memory-mapped) byte buffer.
+ */
+public abstract class Grid {
+    public static final int MAX_COST = 0xFF;
+    /** Lowest cost of an open cell other than start and goal, which cost 0. Heuristics rely on it. */
+    public static final int MIN_COST = 1;
+    public static final int NO_CELL = -1;
+
+    public static final int DIRECTION_COUNT = 4;
+    private static final int[] DR = {0, 0, 1, -1};
+    private static final int[] DC = {1, -1, 0, 0};
+
+    private final int rows;
+    private final int cols;
+    private final int size;
+
+    protected Grid(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.size = checkedSize(rows, cols);
+    }
+
+    static int checkedSize(int rows, int cols) {
+        if (rows < 0 || cols < 0 || (long) rows * cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid grid size: " + rows + "x" + cols);
+        }
+        return rows * cols;
+    }
+
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+    public int size() { return size; }
+
+    public abstract int getCost(int index);
+
+    public abstract boolean isWall(int index);
+
+    /**
+     * Raw writes for loaders and generators in this package. Everyone else
+     * edits through {@link Maze}, which keeps its counters, content hash and
+     * listeners, and the caches built on them, in step.
+     */
+    abstract void setCost(int index, int cost);
+
+    abstract void setWall(int index, boolean wall);
+
+    /**
+     * Keeps the grid's storage alive until the lease is closed. Solvers hold
+     * one for the whole solve, so an off-heap grid is not freed under them;
+     * heap grids need none and return {@link Lease#NONE}.
+     */
+    public Lease acquire() {
+        return Lease.NONE;
+    }
+
+    /** Handle returned by {@link #acquire()}; close it exactly once. */
+    public interface Lease extends AutoCloseable {
+        Lease NONE = () -> { };
+
+        @Override
+        void close();
+    }
+
+    public int index(int r, int c) {
+        return r * cols + c;
+    }
+
+    public int rowOf(int index) {
+        return index / cols;
+    }
+
+    public int colOf(int index) {
+        return index % cols;
+    }
+
+    public boolean contains(int r, int c) {
+        return r >= 0 && r < rows && c >= 0 && c < cols;
+    }
+
+    public boolean isOpen(int r, int c) {
+        return contains(r, c) && !isWall(index(r, c));
+    }
+
+    /** Largest cost over all open cells, or 0 for a grid without open cells. */
+    public int maxCost() {
+        int max = 0;
+        for (int i = 0; i < size; i++) {
+            if (!isWall(i)) {
+                max = Math.max(max, getCost(i));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * 64-bit hash of the dimensions, wall layout and open-cell costs. Two grids
+     * with equal content hash equally regardless of their storage.
+     */
+    public long contentHash() {
+        long hash = mix(((long) rows << 32) | cols);
+        long word = 0;
+        for (int i = 0; i < size; i++) {
+            int cell = isWall(i) ? 0x100 : getCost(i);
+            word = (word << 9) | cell;
+            if (i % 7 == 6) {
+                hash = mix(hash ^ word);
+                word = 0;
+            }
+        }
+        return mix(hash ^ word ^ size);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Returns the open neighbour of {@code index} in the given direction
+     * (0..{@link #DIRECTION_COUNT}-1, same order the solvers have always used),
+     * or {@link #NO_CELL} when it is off the grid or a wall.
+     */
+    public int neighbor(int index, int direction) {
+        int r = index / cols + DR[direction];
+        int c = index % cols + DC[direction];
+        if (r < 0 || r >= rows || c < 0 || c >= cols) {
+            return NO_CELL;
+        }
+        int next = r * cols + c;
+        return isWall(next) ? NO_CELL : next;
+    }
+
+    protected static void checkCost(int cost, int maxCost) {
+        if (cost < 0 || cost > maxCost) {
+            throw new IllegalArgumentException("Cell cost out of range [0, " + maxCost + "]: " + cost);
+        }
+    }
+}
@@ -1,18 +1,36 @@
 package th.ac.kmutt.cpe.algorithm.suntalumiti.model;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.util.ArrayList;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class Maze {
-    private Cell[][] grid;
+    private Grid grid;
     private int rows;
     private int cols;
+    private int startIndex = Grid.NO_CELL;
+    private int goalIndex = Grid.NO_CELL;
     private Cell startCell;
     private Cell goalCell;
+    private volatile long contentHash;
+    private volatile boolean contentHashed;
+    private volatile int modificationCount;
+    private volatile int wallModificationCount;
+    /** {@link Grid#maxCost()} in the low half, the modification count it was computed at in the high half. */
+    private volatile long maxCost = -1L;
+    /** Managed by {@link ReachabilityIndex#of}; lives and dies with the maze. */
+    volatile ReachabilityIndex.Entry reachability;
+    private final List<MazeChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private int batchDepth;
+    private int[] pendingCells = new int[0];
+    private int pendingCount;
 
     public Maze(String mazeFileName) {
         try (InputStream is = getClass().getClassLoader().getResourceAsStream("data/" + mazeFileName)) {
@@ -33,99 +51,31 @@ public class Maze {
         loadMaze(is);
     }
 
+    public Maze(Grid grid, int startIndex, int goalIndex) {
+        initialize(grid, startIndex, goalIndex);
+    }
+
+    /** Loads a text maze, or memory-maps it when the file is in {@link MazeBinaryFormat}. */
+    public static Maze load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (MazeBinaryFormat.isBinary(channel)) {
+                return MazeBinaryFormat.map(channel, false);
+            }
+            return MazeParser.parse(channel);
+        }
+    }
+
     private void loadMaze(InputStream is) {
         if (is == null) {
             initializeEmptyMaze();
             return;
         }
-        List<List<Cell>> cellRows = new ArrayList<>();
-        try (BufferedReader br = new BufferedReader(new InputStreamReader(is))) {
-            String line;
-            int currentRow = 0;
-
-            while ((line = br.readLine()) != null) {
-                String trimmedLine = line.trim();
-                
-                if (trimmedLine.isEmpty() || trimmedLine.matches("^#+$")) {
-                    continue;
-                }
-
-                if (trimmedLine.startsWith("#") && trimmedLine.endsWith("#")) {
-                    if (trimmedLine.length() > 2) {
-                        trimmedLine = trimmedLine.substring(1, trimmedLine.length() - 1);
-                    } else {
-                        continue;
-                    }
-                }
-                String normalizedLine = trimmedLine
-                    .replaceAll("#", " # ")
-                    .replaceAll("S", " S ")
-                    .replaceAll("G", " G ")
-                    .replaceAll("\"\"", " ")
-                    .replaceAll("\"", "")
-                    .trim()
-                    .replaceAll("\\s+", " "); 
-
-                String[] tokens = normalizedLine.split(" ");
-
-                List<Cell> rowList = new ArrayList<>();
-                int currentCol = 0;
-
-                for (String token : tokens) {
-                    if (token.isEmpty()) continue;
-                    
-                    boolean isWall = false;
-                    boolean isStart = false;
-                    boolean isGoal = false;
-                    int timeCost = 0;
-
-                    if (token.equals("#")) {
-                        isWall = true;
-                        timeCost = 0; 
-                    } else if (token.equals("S")) {
-                        isStart = true;
-                        timeCost = 0; 
-                    } else if (token.equals("G")) {
-                        isGoal = true;
-                        timeCost = 0;
-                    } else {
-                        try {
-                            timeCost = Integer.parseInt(token);
-                        } catch (NumberFormatException e) {
-                            timeCost = 1; 
-                        }
-                    }
-
-                    Cell cell = new Cell(currentRow, currentCol, timeCost, isWall, isStart, isGoal);
-                    rowList.add(cell);
-
-                    if (isStart) startCell = cell;
-                    if (isGoal) goalCell = cell;
-
-                    currentCol++;
-                }
-
-                if (!rowList.isEmpty()) {
-                    cellRows.add(rowList);
-                    currentRow++;
-                }
-            }
-
-            this.rows = cellRows.size();
-            
-            if (this.rows > 0) {
-                this.cols = cellRows.get(0).size();
-                this.grid = new Cell[rows][cols];
-                for (int i = 0; i < rows; i++) {
-                    if (cellRows.get(i).size() != this.cols) {
-                         System.err.println("Warning: Maze rows are not uniform in length!");
-                    }
-                    this.grid[i] = cellRows.get(i).toArray(new Cell[this.cols]); 
-                }
-            } else {
-                initializeEmptyMaze();
-            }
-            
+        try (ReadableByteChannel channel = Channels.newChannel(is)) {
+            Maze parsed = MazeParser.parse(channel);
+            initialize(parsed.grid, parsed.startIndex, parsed.goalIndex);
+        } catch (MazeFormatException e) {
+            System.err.println("Malformed maze data: " + e.getMessage());
+            initializeEmptyMaze();
         } catch (IOException e) {
             System.err.println("Error reading maze data: " + e.getMessage());
             e.printStackTrace();
@@ -133,10 +83,22 @@ public class Maze {
         }
     }
 
+    private void initialize(Grid grid, int startIndex, int goalIndex) {
+        this.grid = grid;
+        this.rows = grid.getRows();
+        this.cols = grid.getCols();
+        this.startIndex = startIndex;
+        this.goalIndex = goalIndex;
+        this.startCell = startIndex == Grid.NO_CELL ? null : getCell(startIndex);
+        this.goalCell = goalIndex == Grid.NO_CELL ? null : getCell(goalIndex);
+    }
+
     private void initializeEmptyMaze() {
         this.rows = 0;
         this.cols = 0;
-        this.grid = new Cell[0][0];
+        this.grid = new ArrayGrid(0, 0);
+        this.startIndex = Grid.NO_CELL;
+        this.goalIndex = Grid.NO_CELL;
         this.startCell = null;
         this.goalCell = null;
     }
@@ -145,16 +107,191 @@ public class Maze {
     public int getCols() { return cols; }
     public Cell getCell(int r, int c) {
         if (r >= 0 && r < rows && c >= 0 && c < cols) {
-            return grid[r][c];
+            return getCell(grid.index(r, c));
         }
         return null;
     }
     public Cell getStartCell() { return startCell; }
     public Cell getGoalCell() { return goalCell; }
     public boolean isValid(int r, int c) {
-        if (r >= 0 && r < rows && c >= 0 && c < cols) {
-            return !grid[r][c].isWall();
+        return grid.isOpen(r, c);
+    }
+
+    public Grid getGrid() { return grid; }
+    public int getCellCount() { return grid.size(); }
+    public int getStartIndex() { return startIndex; }
+    public int getGoalIndex() { return goalIndex; }
+    public int index(int r, int c) { return grid.index(r, c); }
+    public int rowOf(int index) { return grid.rowOf(index); }
+    public int colOf(int index) { return grid.colOf(index); }
+    public int getCost(int index) { return grid.getCost(index); }
+    public boolean isWall(int index) { return grid.isWall(index); }
+
+    /**
+     * Number of cell updates applied so far. Caches derived from the grid
+     * compare it to detect that they are stale.
+     */
+    public int getModificationCount() { return modificationCount; }
+
+    /** Number of updates that opened or closed a wall; cost-only edits leave it unchanged. */
+    public int getWallModificationCount() { return wallModificationCount; }
+
+    public void setCost(int r, int c, int cost) {
+        setCost(checkedIndex(r, c), cost);
+    }
+
+    /**
+     * Changes the time cost of an open cell. Start and goal always cost 0;
+     * every other cell costs at least {@link Grid#MIN_COST}.
+     */
+    public void setCost(int index, int cost) {
+        checkEditable(index);
+        if (cost < Grid.MIN_COST) {
+            throw new IllegalArgumentException("Cell cost must be at least " + Grid.MIN_COST + ": " + cost);
         }
-        return false;
+        if (grid.getCost(index) == cost) {
+            return;
+        }
+        grid.setCost(index, cost);
+        changed(index, false);
+    }
+
+    public void setWall(int r, int c, boolean wall) {
+        setWall(checkedIndex(r, c), wall);
+    }
+
+    /**
+     * Walls are stored with cost 0, so a reopened wall gets
+     * {@link Grid#MIN_COST} unless it already had a valid cost; use
+     * {@link #openCell} to choose the cost.
+     */
+    public void setWall(int index, boolean wall) {
+        checkEditable(index);
+        if (grid.isWall(index) == wall) {
+            return;
+        }
+        grid.setWall(index, wall);
+        if (!wall && grid.getCost(index) < Grid.MIN_COST) {
+            grid.setCost(index, Grid.MIN_COST);
+        }
+        changed(index, true);
+    }
+
+    /** Opens the cell, if it is a wall, and gives it {@code cost}, as one change. */
+    public void openCell(int index, int cost) {
+        checkEditable(index);
+        if (cost < Grid.MIN_COST) {
+            throw new IllegalArgumentException("Cell cost must be at least " + Grid.MIN_COST + ": " + cost);
+        }
+        boolean wasWall = grid.isWall(index);
+        if (!wasWall && grid.getCost(index) == cost) {
+            return;
+        }
+        grid.setCost(index, cost);
+        grid.setWall(index, false);
+        changed(index, wasWall);
+    }
+
+    public void toggleWall(int index) {
+        setWall(index, !isWall(index));
+    }
+
+    /**
+     * Runs {@code edits} as one update: listeners are notified once, with all
+     * changed cells, when the outermost batch completes.
+     */
+    public void batchUpdate(Runnable edits) {
+        batchDepth++;
+        try {
+            edits.run();
+        } finally {
+            if (--batchDepth == 0 && pendingCount > 0) {
+                int[] cells = Arrays.copyOf(pendingCells, pendingCount);
+                pendingCount = 0;
+                fireChanged(cells);
+            }
+        }
+    }
+
+    public void addChangeListener(MazeChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeChangeListener(MazeChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    private int checkedIndex(int r, int c) {
+        if (!grid.contains(r, c)) {
+            throw new IndexOutOfBoundsException("Cell out of maze: (" + r + ", " + c + ")");
+        }
+        return grid.index(r, c);
+    }
+
+    private void checkEditable(int index) {
+        if (index < 0 || index >= grid.size()) {
+            throw new IndexOutOfBoundsException("Cell out of maze: " + index);
+        }
+        if (index == startIndex || index == goalIndex) {
+            throw new IllegalArgumentException("Start and goal cells cannot be edited: " + index);
+        }
+    }
+
+    private void changed(int index, boolean wallChanged) {
+        contentHashed = false;
+        modificationCount++;
+        if (wallChanged) {
+            wallModificationCount++;
+        }
+        if (batchDepth > 0) {
+            if (pendingCount == pendingCells.length) {
+                pendingCells = Arrays.copyOf(pendingCells, Math.max(8, pendingCount * 2));
+            }
+            pendingCells[pendingCount++] = index;
+        } else {
+            fireChanged(new int[] {index});
+        }
+    }
+
+    private void fireChanged(int[] cells) {
+        for (MazeChangeListener listener : listeners) {
+            listener.cellsChanged(this, cells);
+        }
+    }
+
+    /** {@link Grid#maxCost()}, scanned once per modification rather than once per solve. */
+    public int getMaxCost() {
+        int count = modificationCount;
+        long cached = maxCost;
+        if ((int) (cached >>> 32) == count && cached != -1L) {
+            return (int) cached;
+        }
+        int max = grid.maxCost();
+        maxCost = ((long) count << 32) | max;
+        return max;
+    }
+
+    /** Hash of the grid content (not start/goal), computed once per modification. */
+    public long getContentHash() {
+        if (!contentHashed) {
+            contentHash = grid.contentHash();
+            contentHashed = true;
+        }
+        return contentHash;
+    }
+
+    /**
+     * Materializes a {@link Cell} view of the given index. Cells are not
+     * retained by the maze; index-based callers should use the grid directly.
+     */
+    public Cell getCell(int index) {
+        return new Cell(
+            grid.rowOf(index),
+            grid.colOf(index),
+            grid.getCost(index),
+            grid.isWall(index),
+            index == startIndex,
+            index == goalIndex
+        );
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,218 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Compact binary maze format, opened with {@link FileChannel#map} so loading
+ * is a header read and the cost data never lands on the heap.
+ *
+ * <pre>
+ * offset size
+ *  0     4   magic "MAZB"
+ *  4     2   version (1)
+ *  6     1   bits per cost (4 or 8)
+ *  7     1   reserved
+ *  8     4   rows
+ * 12     4   cols
+ * 16     4   start index (-1 if none)
+ * 20     4   goal index (-1 if none)
+ * 24     8   CRC32C of the cost and wall sections
+ * 32     ..  costs, row-major, low nibble first when packed
+ * ..     ..  wall bitmap, row-major, least significant bit first
+ * </pre>
+ * All integers are little-endian.
+ */
+public final class MazeBinaryFormat {
+    public static final String FILE_EXTENSION = ".mzb";
+    public static final int MAGIC = 0x42_5A_41_4D; // "MAZB" read little-endian
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 32;
+
+    private static final int CHECKSUM_OFFSET = 24;
+    private static final int WRITE_CHUNK = 1 << 16;
+
+    private MazeBinaryFormat() {
+    }
+
+    /** Checks whether the file starts with the binary magic number. */
+    public static boolean isBinary(FileChannel channel) throws IOException {
+        ByteBuffer head = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+        while (head.hasRemaining()) {
+            if (channel.read(head, head.position()) < 0) {
+                return false;
+            }
+        }
+        return head.getInt(0) == MAGIC;
+    }
+
+    /** Maps the file without verifying its checksum. */
+    public static Maze open(Path path) throws IOException {
+        return open(path, false);
+    }
+
+    public static Maze open(Path path, boolean verifyChecksum) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return map(channel, verifyChecksum);
+        }
+    }
+
+    static Maze map(FileChannel channel, boolean verifyChecksum) throws IOException {
+        long fileSize = channel.size();
+        if (fileSize < HEADER_SIZE) {
+            throw new MazeFormatException(1, 1, "binary maze header truncated");
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                throw new MazeFormatException(1, header.position() + 1, "binary maze header truncated");
+            }
+        }
+        if (header.getInt(0) != MAGIC) {
+            throw new MazeFormatException(1, 1, "not a binary maze file");
+        }
+        int version = header.getShort(4) & 0xFFFF;
+        if (version != VERSION) {
+            throw new MazeFormatException(1, 5, "unsupported binary maze version " + version);
+        }
+        int costBits = header.get(6);
+        int rows = header.getInt(8);
+        int cols = header.getInt(12);
+        int start = header.getInt(16);
+        int goal = header.getInt(20);
+        long checksum = header.getLong(CHECKSUM_OFFSET);
+        if (costBits != 4 && costBits != 8) {
+            throw new MazeFormatException(1, 7, "unsupported cost width " + costBits);
+        }
+        if (rows < 0 || cols < 0 || (long) rows * cols > Integer.MAX_VALUE) {
+            throw new MazeFormatException(1, 9, "invalid dimensions " + rows + "x" + cols);
+        }
+        long cells = (long) rows * cols;
+        long costBytes = BufferGrid.costBytes(cells, costBits);
+        long wallBytes = BufferGrid.wallBytes(cells);
+        if (fileSize != HEADER_SIZE + costBytes + wallBytes) {
+            throw new MazeFormatException(1, 1, "file size " + fileSize + " does not match a " + rows + "x" + cols + " maze");
+        }
+        if (start < Grid.NO_CELL || start >= cells || goal < Grid.NO_CELL || goal >= cells) {
+            throw new MazeFormatException(1, 17, "start or goal index out of range");
+        }
+        MappedByteBuffer costs = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE, costBytes);
+        MappedByteBuffer walls = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + costBytes, wallBytes);
+        if (verifyChecksum) {
+            CRC32C crc = new CRC32C();
+            crc.update(costs.duplicate());
+            crc.update(walls.duplicate());
+            if (crc.getValue() != checksum) {
+                throw new MazeFormatException(1, CHECKSUM_OFFSET + 1, "checksum mismatch");
+            }
+        }
+        return new Maze(new BufferGrid(rows, cols, costBits, costs, walls), start, goal);
+    }
+
+    public static void write(Maze maze, Path path) throws IOException {
+        Grid grid = maze.getGrid();
+        int costBits = grid.maxCost() <= 0xF ? 4 : 8;
+        write(path, grid.getRows(), grid.getCols(), maze.getStartIndex(), maze.getGoalIndex(), costBits,
+            (r, costs, walls) -> {
+                for (int c = 0; c < grid.getCols(); c++) {
+                    int index = grid.index(r, c);
+                    walls[c] = grid.isWall(index);
+                    costs[c] = walls[c] ? 0 : grid.getCost(index);
+                }
+            });
+    }
+
+    /** Supplies one row at a time; every row is requested twice, once per section. */
+    @FunctionalInterface
+    interface RowSource {
+        void row(int r, int[] costs, boolean[] walls);
+    }
+
+    /** Streams a maze row by row, so the whole grid never has to be in memory. */
+    static void write(Path path, int rows, int cols, int start, int goal, int costBits, RowSource source)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            CRC32C crc = new CRC32C();
+            ByteBuffer chunk = ByteBuffer.allocate(WRITE_CHUNK);
+            channel.position(HEADER_SIZE);
+            int[] costs = new int[cols];
+            boolean[] walls = new boolean[cols];
+
+            int lowNibble = -1;
+            for (int r = 0; r < rows; r++) {
+                source.row(r, costs, walls);
+                for (int c = 0; c < cols; c++) {
+                    int stored = walls[c] ? 0 : costs[c];
+                    if (costBits == 8) {
+                        put(channel, chunk, crc, stored);
+                    } else if (lowNibble < 0) {
+                        lowNibble = stored;
+                    } else {
+                        put(channel, chunk, crc, lowNibble | stored << 4);
+                        lowNibble = -1;
+                    }
+                }
+            }
+            if (lowNibble >= 0) {
+                put(channel, chunk, crc, lowNibble);
+            }
+            int bits = 0;
+            int bitCount = 0;
+            for (int r = 0; r < rows; r++) {
+                source.row(r, costs, walls);
+                for (int c = 0; c < cols; c++) {
+                    if (walls[c]) {
+                        bits |= 1 << bitCount;
+                    }
+                    if (++bitCount == 8) {
+                        put(channel, chunk, crc, bits);
+                        bits = 0;
+                        bitCount = 0;
+                    }
+                }
+            }
+            if (bitCount > 0) {
+                put(channel, chunk, crc, bits);
+            }
+            flush(channel, chunk, crc);
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC)
+                .putShort((short) VERSION)
+                .put((byte) costBits)
+                .put((byte) 0)
+                .putInt(rows)
+                .putInt(cols)
+                .putInt(start)
+                .putInt(goal)
+                .putLong(crc.getValue())
+                .flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+        }
+    }
+
+    private static void put(FileChannel channel, ByteBuffer chunk, CRC32C crc, int value) throws IOException {
+        chunk.put((byte) value);
+        if (!chunk.hasRemaining()) {
+            flush(channel, chunk, crc);
+        }
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer chunk, CRC32C crc) throws IOException {
+        chunk.flip();
+        crc.update(chunk.duplicate());
+        while (chunk.hasRemaining()) {
+            channel.write(chunk);
+        }
+        chunk.clear();
+    }
+}
@@ -0,0 +1,11 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.model;
+
+/** Notified after cells of a {@link Maze} change cost or wall state. */
+@FunctionalInterface
+public interface MazeChangeListener {
+    /**
+     * @param cells indices of the changed cells; a cell may appear more than
+     *              once when a batch edits it repeatedly
+     */
+    void cellsChanged(Maze maze, int[] cells);
+}
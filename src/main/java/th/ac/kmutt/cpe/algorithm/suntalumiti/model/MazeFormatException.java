@@ -0,0 +1,34 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.model;
+
+import java.io.IOException;
+
+/**
+ * Raised by {@link MazeParser} for input that is not a well-formed maze. The
+ * position is 1-based and refers to the physical line and byte column.
+ */
+public class MazeFormatException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    private final long line;
+    private final int column;
+    private final String reason;
+
+    public MazeFormatException(long line, int column, String reason) {
+        super("Line " + line + ", column " + column + ": " + reason);
+        this.line = line;
+        this.column = column;
+        this.reason = reason;
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    public int getColumn() {
+        return column;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+}
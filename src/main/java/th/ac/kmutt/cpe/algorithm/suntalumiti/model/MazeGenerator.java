@@ -0,0 +1,265 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.model;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+/**
+ * Seeded synthetic mazes of any size up to {@link Integer#MAX_VALUE} cells.
+ * Start is the top-left cell and goal the bottom-right one.
+ *
+ * <p>Every row is a pure function of {@code (seed, row)}: it draws from its
+ * own {@link SplittableRandom}, and the guaranteed start-to-goal corridor
+ * crosses row {@code r} between two columns that are themselves derived from
+ * the row number. Writers therefore stream one row at a time
+ * ({@code O(cols)} memory), and the same seed always yields the same maze in
+ * either format. Immutable; each {@code withX} method returns a modified copy.
+ */
+public final class MazeGenerator {
+    /** How walls are laid out before the corridor is carved. */
+    public enum Style {
+        /** Independent walls with probability {@code wallDensity}. */
+        SCATTERED,
+        /** Square rooms separated by wall lines; the lines have random doorways. */
+        ROOMS,
+        /** Every other row is a wall line with random gaps, giving long horizontal corridors. */
+        CORRIDORS
+    }
+
+    /** How open-cell costs are drawn from {@code [minCost, maxCost]}. */
+    public enum CostDistribution {
+        UNIFORM,
+        /** Mostly cheap cells with occasional expensive ones (cubic skew towards {@code minCost}). */
+        SKEWED
+    }
+
+    private static final int CORRIDOR_JITTER = 4;
+    private static final long CORRIDOR_SALT = 0x9E3779B97F4A7C15L;
+
+    private final int rows;
+    private final int cols;
+    private final long seed;
+    private final double wallDensity;
+    private final Style style;
+    private final int roomSize;
+    private final int minCost;
+    private final int maxCost;
+    private final CostDistribution costDistribution;
+
+    public MazeGenerator(int rows, int cols, long seed) {
+        this(rows, cols, seed, 0.25, Style.SCATTERED, 8, 1, 10, CostDistribution.UNIFORM);
+    }
+
+    private MazeGenerator(int rows, int cols, long seed, double wallDensity, Style style, int roomSize,
+                          int minCost, int maxCost, CostDistribution costDistribution) {
+        if (rows < 1 || cols < 1 || (long) rows * cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid maze size: " + rows + "x" + cols);
+        }
+        if (wallDensity < 0 || wallDensity > 1 || roomSize < 2 || style == null || costDistribution == null
+                || minCost < 1 || maxCost < minCost || maxCost > Grid.MAX_COST) {
+            throw new IllegalArgumentException("Invalid generator configuration");
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.seed = seed;
+        this.wallDensity = wallDensity;
+        this.style = style;
+        this.roomSize = roomSize;
+        this.minCost = minCost;
+        this.maxCost = maxCost;
+        this.costDistribution = costDistribution;
+    }
+
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+    public long getSeed() { return seed; }
+    /**
+     * Wall probability of ordinary cells for {@link Style#SCATTERED}, of room
+     * interiors for {@link Style#ROOMS} and of corridor rows for
+     * {@link Style#CORRIDORS}.
+     */
+    public double getWallDensity() { return wallDensity; }
+    public Style getStyle() { return style; }
+    /** Room and corridor-gap spacing, in cells. */
+    public int getRoomSize() { return roomSize; }
+    public int getMinCost() { return minCost; }
+    public int getMaxCost() { return maxCost; }
+    public CostDistribution getCostDistribution() { return costDistribution; }
+
+    public MazeGenerator withSeed(long value) {
+        return new MazeGenerator(rows, cols, value, wallDensity, style, roomSize, minCost, maxCost, costDistribution);
+    }
+
+    public MazeGenerator withWallDensity(double value) {
+        return new MazeGenerator(rows, cols, seed, value, style, roomSize, minCost, maxCost, costDistribution);
+    }
+
+    public MazeGenerator withStyle(Style value) {
+        return new MazeGenerator(rows, cols, seed, wallDensity, value, roomSize, minCost, maxCost, costDistribution);
+    }
+
+    public MazeGenerator withRoomSize(int value) {
+        return new MazeGenerator(rows, cols, seed, wallDensity, style, value, minCost, maxCost, costDistribution);
+    }
+
+    public MazeGenerator withCosts(int min, int max) {
+        return new MazeGenerator(rows, cols, seed, wallDensity, style, roomSize, min, max, costDistribution);
+    }
+
+    public MazeGenerator withCostDistribution(CostDistribution value) {
+        return new MazeGenerator(rows, cols, seed, wallDensity, style, roomSize, minCost, maxCost, value);
+    }
+
+    public int startIndex() {
+        return 0;
+    }
+
+    public int goalIndex() {
+        return rows * cols - 1;
+    }
+
+    /** Builds the maze on the heap. */
+    public Maze generate() {
+        return fill(new ArrayGrid(rows, cols));
+    }
+
+    /**
+     * Builds the maze in a {@link BufferGrid#allocateDirect direct} grid, so
+     * it costs no heap beyond one row. Closing the grid frees the memory.
+     */
+    public Maze generateOffHeap() {
+        return fill(BufferGrid.allocateDirect(rows, cols, maxCost <= 0xF ? 4 : 8));
+    }
+
+    private Maze fill(Grid grid) {
+        int[] costs = new int[cols];
+        boolean[] walls = new boolean[cols];
+        for (int r = 0; r < rows; r++) {
+            fillRow(r, costs, walls);
+            for (int c = 0; c < cols; c++) {
+                int index = grid.index(r, c);
+                if (walls[c]) {
+                    grid.setWall(index, true);
+                } else {
+                    grid.setCost(index, costs[c]);
+                }
+            }
+        }
+        return new Maze(grid, startIndex(), goalIndex());
+    }
+
+    /** Writes {@code .mzb} when the file name ends with {@link MazeBinaryFormat#FILE_EXTENSION}, text otherwise. */
+    public void write(Path path) throws IOException {
+        if (path.getFileName().toString().endsWith(MazeBinaryFormat.FILE_EXTENSION)) {
+            writeBinary(path);
+        } else {
+            writeText(path);
+        }
+    }
+
+    public void writeBinary(Path path) throws IOException {
+        int costBits = maxCost <= 0xF ? 4 : 8;
+        MazeBinaryFormat.write(path, rows, cols, startIndex(), goalIndex(), costBits, this::fillRow);
+    }
+
+    public void writeText(Path path) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path), 1 << 16)) {
+            writeText(out);
+        }
+    }
+
+    /** Same layout as {@link MazeWriter}: a wall border around quoted costs and S/G markers. */
+    public void writeText(OutputStream out) throws IOException {
+        int[] costs = new int[cols];
+        boolean[] walls = new boolean[cols];
+        MazeWriter.writeBorder(out, cols + 2);
+        for (int r = 0; r < rows; r++) {
+            fillRow(r, costs, walls);
+            out.write('#');
+            for (int c = 0; c < cols; c++) {
+                if (r == 0 && c == 0) {
+                    out.write('S');
+                } else if (r == rows - 1 && c == cols - 1) {
+                    out.write('G');
+                } else if (walls[c]) {
+                    out.write('#');
+                } else {
+                    MazeWriter.writeCost(out, costs[c]);
+                }
+            }
+            out.write('#');
+            out.write('\n');
+        }
+        MazeWriter.writeBorder(out, cols + 2);
+    }
+
+    /**
+     * Fills row {@code r}. Start and goal get cost 0, like parsed mazes. The
+     * corridor enters the row at the column where the previous row left it
+     * and runs horizontally to this row's exit column, so every row has at
+     * least one open cell and the goal is always reachable.
+     */
+    void fillRow(int r, int[] costs, boolean[] walls) {
+        SplittableRandom random = new SplittableRandom(mix(seed ^ mix(r)));
+        for (int c = 0; c < cols; c++) {
+            walls[c] = isWall(r, c, random);
+            costs[c] = drawCost(random);
+        }
+        int entry = r == 0 ? 0 : corridorExit(r - 1);
+        int exit = corridorExit(r);
+        for (int c = Math.min(entry, exit); c <= Math.max(entry, exit); c++) {
+            walls[c] = false;
+        }
+        if (r == 0) {
+            costs[0] = 0;
+        }
+        if (r == rows - 1) {
+            costs[cols - 1] = 0;
+        }
+    }
+
+    private boolean isWall(int r, int c, SplittableRandom random) {
+        double draw = random.nextDouble();
+        switch (style) {
+            case ROOMS:
+                if (r % roomSize == roomSize - 1 || c % roomSize == roomSize - 1) {
+                    return draw >= 1.0 / roomSize;
+                }
+                return draw < wallDensity;
+            case CORRIDORS:
+                if (r % 2 == 1) {
+                    return draw >= 1.0 / roomSize;
+                }
+                return draw < wallDensity;
+            default:
+                return draw < wallDensity;
+        }
+    }
+
+    private int drawCost(SplittableRandom random) {
+        double u = random.nextDouble();
+        if (costDistribution == CostDistribution.SKEWED) {
+            u = u * u * u;
+        }
+        return minCost + (int) (u * (maxCost - minCost + 1));
+    }
+
+    /** Column where the corridor leaves row {@code r}: near the diagonal, jittered per row. */
+    private int corridorExit(int r) {
+        if (r == rows - 1) {
+            return cols - 1;
+        }
+        long diagonal = rows == 1 ? cols - 1 : (long) r * (cols - 1) / (rows - 1);
+        int jitter = new SplittableRandom(mix(seed ^ CORRIDOR_SALT ^ mix(r))).nextInt(-CORRIDOR_JITTER, CORRIDOR_JITTER + 1);
+        return (int) Math.max(0, Math.min(cols - 1, diagonal + jitter));
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
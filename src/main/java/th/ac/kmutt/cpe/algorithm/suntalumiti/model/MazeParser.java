@@ -0,0 +1,191 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Single-pass reader for the quoted-cost text format
+ * ({@code #S#"2""1"#...G#}). Bytes are tokenized straight out of the read
+ * buffer into the grid's cost and wall arrays; no per-line strings, regexes
+ * or intermediate cell lists are created.
+ *
+ * <p>Layout rules match the original loader: blank and all-{@code #} lines are
+ * border rows and skipped, and a line wrapped in {@code #...#} has the two
+ * border walls stripped.
+ */
+public class MazeParser {
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+
+    private final ReadableByteChannel channel;
+    private final long sizeHint;
+
+    private byte[] line = new byte[256];
+    private int lineLength;
+    private long lineNumber;
+
+    private byte[] costs = new byte[0];
+    private long[] walls = new long[0];
+    private int cellCount;
+    private int rows;
+    private int cols = -1;
+    private int startIndex = Grid.NO_CELL;
+    private int goalIndex = Grid.NO_CELL;
+
+    private MazeParser(ReadableByteChannel channel, long sizeHint) {
+        this.channel = channel;
+        this.sizeHint = sizeHint;
+    }
+
+    public static Maze parse(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return parse(channel);
+        }
+    }
+
+    public static Maze parse(ReadableByteChannel channel) throws IOException {
+        long sizeHint = channel instanceof SeekableByteChannel ? ((SeekableByteChannel) channel).size() : -1;
+        return new MazeParser(channel, sizeHint).read();
+    }
+
+    private Maze read() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        byte[] bytes = buffer.array();
+        while (channel.read(buffer) != -1) {
+            int limit = buffer.position();
+            for (int i = 0; i < limit; i++) {
+                byte b = bytes[i];
+                if (b == '\n') {
+                    endLine();
+                } else {
+                    if (lineLength == line.length) {
+                        line = Arrays.copyOf(line, lineLength * 2);
+                    }
+                    line[lineLength++] = b;
+                }
+            }
+            buffer.clear();
+        }
+        if (lineLength > 0) {
+            endLine();
+        }
+        if (rows == 0) {
+            return new Maze(new ArrayGrid(0, 0), Grid.NO_CELL, Grid.NO_CELL);
+        }
+        return new Maze(new ArrayGrid(rows, cols, costs, walls), startIndex, goalIndex);
+    }
+
+    private void endLine() throws MazeFormatException {
+        lineNumber++;
+        int rawLength = lineLength + 1;
+        int from = 0;
+        int to = lineLength;
+        lineLength = 0;
+        while (from < to && isBlank(line[from])) from++;
+        while (to > from && isBlank(line[to - 1])) to--;
+        if (isBorderRow(from, to)) {
+            return;
+        }
+        if (line[from] == '#' && line[to - 1] == '#') {
+            from++;
+            to--;
+        }
+        int rowStart = cellCount;
+        int i = from;
+        while (i < to) {
+            byte b = line[i];
+            if (isBlank(b) || b == '"') {
+                i++;
+            } else if (b == '#') {
+                appendCell(0, true);
+                i++;
+            } else if (b == 'S' || b == 'G') {
+                if ((b == 'S' ? startIndex : goalIndex) != Grid.NO_CELL) {
+                    throw new MazeFormatException(lineNumber, i + 1, "duplicate '" + (char) b + "' cell");
+                }
+                if (b == 'S') {
+                    startIndex = cellCount;
+                } else {
+                    goalIndex = cellCount;
+                }
+                appendCell(0, false);
+                i++;
+            } else if (b >= '0' && b <= '9') {
+                int tokenStart = i;
+                int cost = 0;
+                while (i < to && line[i] >= '0' && line[i] <= '9') {
+                    cost = cost * 10 + (line[i] - '0');
+                    if (cost > Grid.MAX_COST) {
+                        throw new MazeFormatException(lineNumber, tokenStart + 1, "cost exceeds " + Grid.MAX_COST);
+                    }
+                    i++;
+                }
+                if (cost < Grid.MIN_COST) {
+                    throw new MazeFormatException(lineNumber, tokenStart + 1, "cost below " + Grid.MIN_COST);
+                }
+                appendCell(cost, false);
+            } else {
+                throw new MazeFormatException(lineNumber, i + 1, "unexpected character '" + (char) b + "'");
+            }
+        }
+        int rowCells = cellCount - rowStart;
+        if (rowCells == 0) {
+            return;
+        }
+        if (cols < 0) {
+            cols = rowCells;
+            if (sizeHint > 0) {
+                // Rows are roughly the same length, so the channel size predicts the row count.
+                reserve((long) cols * (sizeHint / rawLength + 1));
+            }
+        } else if (rowCells != cols) {
+            throw new MazeFormatException(lineNumber, 1, "row has " + rowCells + " cells, expected " + cols);
+        }
+        rows++;
+    }
+
+    private boolean isBorderRow(int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (line[i] != '#') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void appendCell(int cost, boolean wall) throws MazeFormatException {
+        if (cellCount == costs.length) {
+            grow();
+        }
+        costs[cellCount] = (byte) cost;
+        if (wall) {
+            walls[cellCount >>> 6] |= 1L << cellCount;
+        }
+        cellCount++;
+    }
+
+    private void grow() throws MazeFormatException {
+        reserve(Math.max(1024L, costs.length + (costs.length >> 1)));
+    }
+
+    private void reserve(long capacity) throws MazeFormatException {
+        capacity = Math.min(capacity, Integer.MAX_VALUE - 8);
+        if (capacity <= costs.length) {
+            if (cellCount == costs.length) {
+                throw new MazeFormatException(lineNumber, 1, "maze exceeds " + (Integer.MAX_VALUE - 8) + " cells");
+            }
+            return;
+        }
+        costs = Arrays.copyOf(costs, (int) capacity);
+        walls = Arrays.copyOf(walls, (int) ((capacity + 63) >>> 6));
+    }
+
+    private static boolean isBlank(byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+}
@@ -0,0 +1,76 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.model;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes a maze in the quoted-cost text format read by {@link MazeParser},
+ * wrapped in a border of walls like the bundled data files.
+ */
+public final class MazeWriter {
+    private MazeWriter() {
+    }
+
+    public static void write(Maze maze, Path path) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path), 1 << 16)) {
+            write(maze, out);
+        }
+    }
+
+    /**
+     * A row made only of walls would read back as a border line and be
+     * dropped, so such mazes are rejected instead of written lossily.
+     */
+    public static void write(Maze maze, OutputStream out) throws IOException {
+        int rows = maze.getRows();
+        int cols = maze.getCols();
+        writeBorder(out, cols + 2);
+        for (int r = 0; r < rows; r++) {
+            out.write('#');
+            boolean open = false;
+            for (int c = 0; c < cols; c++) {
+                int index = maze.index(r, c);
+                if (index == maze.getStartIndex()) {
+                    out.write('S');
+                    open = true;
+                } else if (index == maze.getGoalIndex()) {
+                    out.write('G');
+                    open = true;
+                } else if (maze.isWall(index)) {
+                    out.write('#');
+                } else {
+                    writeCost(out, maze.getCost(index));
+                    open = true;
+                }
+            }
+            if (!open) {
+                throw new IllegalArgumentException("Row " + r + " is all walls and cannot be written in the text format");
+            }
+            out.write('#');
+            out.write('\n');
+        }
+        writeBorder(out, cols + 2);
+    }
+
+    static void writeCost(OutputStream out, int cost) throws IOException {
+        out.write('"');
+        if (cost >= 100) {
+            out.write('0' + cost / 100);
+        }
+        if (cost >= 10) {
+            out.write('0' + cost / 10 % 10);
+        }
+        out.write('0' + cost % 10);
+        out.write('"');
+    }
+
+    static void writeBorder(OutputStream out, int width) throws IOException {
+        for (int i = 0; i < width; i++) {
+            out.write('#');
+        }
+        out.write('\n');
+    }
+}
@@ -1,5 +1,6 @@
 package th.ac.kmutt.cpe.algorithm.suntalumiti.model;
 
+import java.util.Collections;
 import java.util.List;
 
 public class PathResult {
@@ -7,12 +8,42 @@ public class PathResult {
     private final int totalCost;
     private final String algorithmUsed;
     private final long executionTime;
+    private final boolean cancelled;
+    private final SearchMetrics metrics;
 
     public PathResult(List<Cell> path, int totalCost, String algorithmUsed, long executionTime) {
+        this(path, totalCost, algorithmUsed, executionTime, false);
+    }
+
+    public PathResult(List<Cell> path, int totalCost, String algorithmUsed, long executionTime, boolean cancelled) {
+        this(path, totalCost, algorithmUsed, executionTime, cancelled, SearchMetrics.NONE);
+    }
+
+    /** Result whose execution time (ms) is taken from the metrics' wall time. */
+    public PathResult(List<Cell> path, int totalCost, String algorithmUsed, SearchMetrics metrics) {
+        this(path, totalCost, algorithmUsed, metrics.getWallMillis(), false, metrics);
+    }
+
+    /**
+     * @param cancelled the solve stopped early on a cancellation token; the
+     *                  path, if any, is the best found up to that point
+     */
+    public PathResult(List<Cell> path, int totalCost, String algorithmUsed, long executionTime, boolean cancelled,
+                      SearchMetrics metrics) {
         this.path = path;
         this.totalCost = totalCost;
         this.algorithmUsed = algorithmUsed;
         this.executionTime = executionTime;
+        this.cancelled = cancelled;
+        this.metrics = metrics;
+    }
+
+    public static PathResult notFound(String algorithmUsed, SearchMetrics metrics) {
+        return new PathResult(Collections.emptyList(), Integer.MAX_VALUE, algorithmUsed, metrics.getWallMillis(), false, metrics);
+    }
+
+    public static PathResult cancelled(List<Cell> bestPath, int totalCost, String algorithmUsed, SearchMetrics metrics) {
+        return new PathResult(bestPath, totalCost, algorithmUsed, metrics.getWallMillis(), true, metrics);
     }
 
     public List<Cell> getPath() {
@@ -31,6 +62,14 @@ public class PathResult {
         return executionTime;
     }
     
+    public SearchMetrics getMetrics() {
+        return metrics;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
     public boolean isFound() {
         return path != null && !path.isEmpty();
     }
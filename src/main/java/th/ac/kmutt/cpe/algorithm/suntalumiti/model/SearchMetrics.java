@@ -0,0 +1,123 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.model;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Work counters of one solve. Searches fill the node counters, the GA fills
+ * generations, evaluations and the goal generation; counters a solver does
+ * not track stay 0, except {@code goalGeneration}, which is then -1.
+ * {@code allocatedBytes} covers the solving thread only (not fork-join
+ * helpers) and is -1 when the JVM cannot measure it.
+ */
+public final class SearchMetrics {
+    public static final SearchMetrics NONE = new SearchMetrics(0, 0, 0, 0, 0, 0, 0, -1, -1);
+
+    private static final com.sun.management.ThreadMXBean THREADS = allocationCounter();
+
+    private final long wallNanos;
+    private final long nodesExpanded;
+    private final long nodesPushed;
+    private final long stalePops;
+    private final long peakOpenSize;
+    private final long generations;
+    private final long evaluations;
+    private final long goalGeneration;
+    private final long allocatedBytes;
+
+    public SearchMetrics(long wallNanos, long nodesExpanded, long nodesPushed, long stalePops,
+                         long peakOpenSize, long generations, long evaluations, long allocatedBytes) {
+        this(wallNanos, nodesExpanded, nodesPushed, stalePops, peakOpenSize, generations, evaluations, -1,
+            allocatedBytes);
+    }
+
+    public SearchMetrics(long wallNanos, long nodesExpanded, long nodesPushed, long stalePops,
+                         long peakOpenSize, long generations, long evaluations, long goalGeneration,
+                         long allocatedBytes) {
+        this.wallNanos = wallNanos;
+        this.nodesExpanded = nodesExpanded;
+        this.nodesPushed = nodesPushed;
+        this.stalePops = stalePops;
+        this.peakOpenSize = peakOpenSize;
+        this.generations = generations;
+        this.evaluations = evaluations;
+        this.goalGeneration = goalGeneration;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    /** Starts measuring wall time and allocation on the calling thread. */
+    public static Probe start() {
+        return new Probe();
+    }
+
+    public long getWallNanos() { return wallNanos; }
+    public long getNodesExpanded() { return nodesExpanded; }
+    public long getNodesPushed() { return nodesPushed; }
+    public long getStalePops() { return stalePops; }
+    public long getPeakOpenSize() { return peakOpenSize; }
+    public long getGenerations() { return generations; }
+    public long getEvaluations() { return evaluations; }
+
+    /**
+     * Generation in which the GA first held a goal-reaching chromosome: 0 if
+     * the initial population already did, -1 if it never did or the solver
+     * is not evolutionary.
+     */
+    public long getGoalGeneration() { return goalGeneration; }
+
+    public long getAllocatedBytes() { return allocatedBytes; }
+
+    public long getWallMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(wallNanos);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("wall=%.3f ms, expanded=%d, pushed=%d, stale=%d, peakOpen=%d, generations=%d, evaluations=%d, allocated=%d B",
+            wallNanos / 1e6, nodesExpanded, nodesPushed, stalePops, peakOpenSize, generations, evaluations, allocatedBytes);
+    }
+
+    /**
+     * Start-of-solve readings. Solvers keep their counters in locals and hand
+     * them over once, so the hot loops pay nothing for metrics.
+     */
+    public static final class Probe {
+        private final long startNanos = System.nanoTime();
+        private final long startBytes = allocatedBytes();
+
+        private Probe() {
+        }
+
+        public SearchMetrics search(long expanded, long pushed, long stalePops, long peakOpenSize) {
+            return finish(expanded, pushed, stalePops, peakOpenSize, 0, 0, -1);
+        }
+
+        public SearchMetrics evolution(long generations, long evaluations, long goalGeneration) {
+            return finish(0, 0, 0, 0, generations, evaluations, goalGeneration);
+        }
+
+        private SearchMetrics finish(long expanded, long pushed, long stalePops, long peakOpenSize,
+                                     long generations, long evaluations, long goalGeneration) {
+            long wall = System.nanoTime() - startNanos;
+            long bytes = startBytes < 0 ? -1 : allocatedBytes() - startBytes;
+            return new SearchMetrics(wall, expanded, pushed, stalePops, peakOpenSize, generations, evaluations,
+                goalGeneration, bytes);
+        }
+    }
+
+    private static long allocatedBytes() {
+        return THREADS == null ? -1 : THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+            if (threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+                return threads;
+            }
+        }
+        return null;
+    }
+}
@@ -1,6 +1,7 @@
 package th.ac.kmutt.cpe.algorithm.suntalumiti.view;
 
 import javafx.application.Application;
+import javafx.concurrent.Task;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -8,36 +9,73 @@ import javafx.scene.control.*;
 import javafx.scene.layout.*;
 import javafx.stage.FileChooser;
 import javafx.stage.Stage;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.CancellationToken;
 import th.ac.kmutt.cpe.algorithm.suntalumiti.ISolver;
 import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical.AStarSolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical.AnytimeAStarSolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical.BidirectionalDijkstraSolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical.BucketDijkstraSolver;
 import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical.DijkstraSolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical.IndexedAStarSolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical.LandmarkHeuristic;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical.LpaStarSolver;
 import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.ga.GeneticSolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.hierarchical.HierarchicalSolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.cache.CachingSolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.cache.SolveCache;
 import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Maze;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.MazeFormatException;
 import th.ac.kmutt.cpe.algorithm.suntalumiti.model.PathResult;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.SearchMetrics;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class MainApplication extends Application {
 
     private Maze maze;
     private final MazePanel mazePanel = new MazePanel();
     private final Map<String, ISolver> solvers = new HashMap<>();
+    private final SolveCache solveCache = new SolveCache();
     private final Label resultLabel = new Label("Result: No maze loaded.");
     private final ComboBox<String> solverComboBox = new ComboBox<>();
+    private final Button loadButton = new Button("Load Maze File");
+    private final Button runButton = new Button("Find Path");
+    private final Button cancelButton = new Button("Cancel");
+    private final ProgressBar progressBar = new ProgressBar(0);
+    private final ExecutorService solveExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "maze-solver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private CancellationToken runningToken;
 
     public MainApplication() {
-        solvers.put(new AStarSolver().getName(), new AStarSolver());
-        solvers.put(new DijkstraSolver().getName(), new DijkstraSolver());
+        register(new AStarSolver());
+        register(new IndexedAStarSolver());
+        register(new IndexedAStarSolver(new LandmarkHeuristic()));
+        register(new DijkstraSolver());
+        register(new BucketDijkstraSolver());
+        register(new BidirectionalDijkstraSolver());
+        register(new LpaStarSolver());
+        register(new AnytimeAStarSolver());
+        // Unseeded GA runs differ on purpose; re-running it should not replay a cached result.
         solvers.put(new GeneticSolver().getName(), new GeneticSolver());
+        register(new HierarchicalSolver());
+    }
+
+    private void register(ISolver solver) {
+        solvers.put(solver.getName(), new CachingSolver(solver, solveCache));
     }
 
     @Override
     public void start(Stage stage) {
         stage.setTitle("Maze Runner: Minimum Time Cost Pathfinding");
 
-        Button loadButton = new Button("Load Maze File");
         loadButton.setMaxWidth(Double.MAX_VALUE);
         loadButton.setOnAction(e -> loadMazeFromFile(stage));
 
@@ -47,15 +85,26 @@ public class MainApplication extends Application {
         
         Label comboLabel = new Label("Select Algorithm:");
         
-        Button runButton = new Button("Find Path");
         runButton.setMaxWidth(Double.MAX_VALUE);
         runButton.setOnAction(e -> runSolver());
 
+        cancelButton.setMaxWidth(Double.MAX_VALUE);
+        cancelButton.setDisable(true);
+        cancelButton.setOnAction(e -> cancelSolver());
+        progressBar.setMaxWidth(Double.MAX_VALUE);
+
+        Button zoomInButton = new Button("Zoom In");
+        Button zoomOutButton = new Button("Zoom Out");
+        zoomInButton.setOnAction(e -> mazePanel.setZoom(mazePanel.getZoom() * 1.25));
+        zoomOutButton.setOnAction(e -> mazePanel.setZoom(mazePanel.getZoom() * 0.8));
+        HBox zoomBox = new HBox(10, zoomInButton, zoomOutButton);
+        zoomBox.setAlignment(Pos.CENTER);
+
         resultLabel.setId("result-label");
         resultLabel.setWrapText(true);
         resultLabel.setStyle("-fx-border-color: #ccc;");
         
-        VBox controlBox = new VBox(10, loadButton, new Separator(), comboLabel, solverComboBox, runButton, new Separator(), resultLabel);
+        VBox controlBox = new VBox(10, loadButton, new Separator(), comboLabel, solverComboBox, runButton, cancelButton, progressBar, zoomBox, new Separator(), resultLabel);
         controlBox.setPadding(new Insets(15));
         controlBox.setPrefWidth(250);
         controlBox.setAlignment(Pos.TOP_CENTER);
@@ -64,6 +113,7 @@ public class MainApplication extends Application {
         scrollPane.setFitToWidth(true);
         scrollPane.setFitToHeight(true);
         scrollPane.setStyle("-fx-background-color: #f4f4f4;");
+        mazePanel.bindViewport(scrollPane);
 
         BorderPane root = new BorderPane();
         root.setLeft(controlBox);
@@ -82,14 +132,26 @@ public class MainApplication extends Application {
     private void loadMazeFromFile(Stage stage) {
         FileChooser fileChooser = new FileChooser();
         fileChooser.setTitle("Open Maze Data File");
-        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("Text Files", "*.txt"));
+        fileChooser.getExtensionFilters().addAll(
+            new FileChooser.ExtensionFilter("Maze Files", "*.txt", "*.mzb"),
+            new FileChooser.ExtensionFilter("Text Files", "*.txt"),
+            new FileChooser.ExtensionFilter("Binary Mazes", "*.mzb"));
 
         File file = fileChooser.showOpenDialog(stage);
         if (file != null) {
             String fileName = file.getName();
-            maze = new Maze(fileName);          
+            try {
+                maze = Maze.load(file.toPath());
+            } catch (MazeFormatException e) {
+                resultLabel.setText("Result: Invalid maze data in '" + fileName + "'.\n" + e.getMessage());
+                return;
+            } catch (IOException e) {
+                resultLabel.setText("Result: Failed to read '" + fileName + "': " + e.getMessage());
+                return;
+            }
             if (maze.getRows() > 0) {
                 mazePanel.setMaze(maze);
+                mazePanel.setZoom(Math.min(1.0, mazePanel.fitZoom()));
                 resultLabel.setText("Result: Maze '" + fileName + "' loaded successfully.");
             } else {
                 resultLabel.setText("Result: Failed to load maze data.");
@@ -111,25 +173,81 @@ public class MainApplication extends Application {
             return;
         }
 
-        PathResult result = solver.solve(maze);
+        Maze target = maze;
+        CancellationToken token = new CancellationToken();
+        Task<PathResult> task = new Task<>() {
+            @Override
+            protected PathResult call() {
+                return solver.solve(target, token, this::updateProgress);
+            }
+        };
+        runningToken = token;
+        progressBar.progressProperty().bind(task.progressProperty());
+        setRunning(true);
+        resultLabel.setText("Running " + selectedSolverName + "...");
+        task.setOnSucceeded(e -> {
+            setRunning(false);
+            showResult(task.getValue());
+        });
+        task.setOnFailed(e -> {
+            setRunning(false);
+            resultLabel.setText("ERROR: " + task.getException());
+        });
+        solveExecutor.execute(task);
+    }
+
+    private void cancelSolver() {
+        if (runningToken != null) {
+            runningToken.cancel();
+        }
+    }
+
+    private void setRunning(boolean running) {
+        runButton.setDisable(running);
+        loadButton.setDisable(running);
+        cancelButton.setDisable(!running);
+        if (!running) {
+            runningToken = null;
+            progressBar.progressProperty().unbind();
+            progressBar.setProgress(0);
+        }
+    }
+
+    private void showResult(PathResult result) {
         mazePanel.setResult(result);      
+        String status = result.isCancelled() ? " (cancelled)" : "";
+        SearchMetrics metrics = result.getMetrics();
+        double millis = metrics == SearchMetrics.NONE ? result.getExecutionTime() : metrics.getWallNanos() / 1e6;
+        String work = metrics.getGenerations() > 0
+            ? String.format("Generations: %d", metrics.getGenerations())
+            : String.format("Expanded: %d", metrics.getNodesExpanded());
         if (result.isFound()) {
             resultLabel.setText(String.format(
-                "Algorithm: %s\nPath Found!\nTotal Time Cost: %d\nSteps: %d\nTime: %.2f ms",
+                "Algorithm: %s\nPath Found!%s\nTotal Time Cost: %d\nSteps: %d\nTime: %.2f ms\n%s",
                 result.getAlgorithmUsed(), 
+                status,
                 result.getTotalCost(), 
                 result.getPath().size(), 
-                (double) result.getExecutionTime()
+                millis,
+                work
             ));  
         } else {
              resultLabel.setText(String.format(
-                "Algorithm: %s\nPath NOT Found\nTime: %.2f ms",
+                "Algorithm: %s\nPath NOT Found%s\nTime: %.2f ms\n%s",
                 result.getAlgorithmUsed(), 
-                (double) result.getExecutionTime()
+                status,
+                millis,
+                work
             ));
         }
     }
 
+    @Override
+    public void stop() {
+        cancelSolver();
+        solveExecutor.shutdownNow();
+    }
+
     public static void main(String[] args) {
         launch(args);
     }
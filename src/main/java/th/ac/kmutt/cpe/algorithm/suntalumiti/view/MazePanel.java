@@ -1,103 +1,447 @@
 package th.ac.kmutt.cpe.algorithm.suntalumiti.view;
 
+import javafx.application.Platform;
+import javafx.concurrent.Task;
+import javafx.geometry.Bounds;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.SnapshotParameters;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.Region;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Cell;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Grid;
 import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Maze;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.MazeChangeListener;
 import th.ac.kmutt.cpe.algorithm.suntalumiti.model.PathResult;
 
 import java.util.Collections;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Maze view for mazes of any size. The panel reports the full maze size to
+ * its {@link ScrollPane} but only owns two viewport-sized canvases:
+ * <ul>
+ *   <li>the maze layer, drawn from 32x32-cell tiles that are rendered once
+ *       into {@link WritableImage}s and kept in a small LRU cache, or, when
+ *       zoomed out below {@link #DETAIL_CELL_PIXELS}, from a one-pixel-per-block
+ *       overview image that is built off the FX thread and recoloured
+ *       block by block as cells change;</li>
+ *   <li>the path layer, so {@link #setResult} only repaints the path.</li>
+ * </ul>
+ * Call {@link #bindViewport(ScrollPane)} so scrolling redraws just what is visible.
+ */
+public class MazePanel extends Region {
+    static final double CELL_SIZE = 30.0;
+    private static final int TILE_CELLS = 32;
+    private static final int MAX_CACHED_TILES = 96;
+    private static final double DETAIL_CELL_PIXELS = 8.0;
+    private static final double MIN_ZOOM = 0.01;
+    private static final double MAX_ZOOM = 2.0;
+    private static final int MAX_OVERVIEW_PIXELS = 4096;
+    private static final Font COST_FONT = Font.font("Monospaced", CELL_SIZE * 0.4);
+    private static final Color PATH_FILL = Color.LIGHTGREEN.deriveColor(0, 1, 1, 0.6);
+    private static final ExecutorService OVERVIEW_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "maze-overview");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Canvas mazeLayer = new Canvas(500, 500);
+    private final Canvas pathLayer = new Canvas(500, 500);
+    private final Canvas tileCanvas = new Canvas(TILE_CELLS * CELL_SIZE, TILE_CELLS * CELL_SIZE);
+    private final Map<Integer, WritableImage> tiles = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, WritableImage> eldest) {
+            return size() > MAX_CACHED_TILES;
+        }
+    };
+    private final MazeChangeListener changeListener = (maze, cells) -> {
+        if (Platform.isFxApplicationThread()) {
+            cellsChanged(maze, cells);
+        } else {
+            Platform.runLater(() -> cellsChanged(maze, cells));
+        }
+    };
 
-public class MazePanel extends Canvas {
     private Maze maze;
-    private PathResult result = new PathResult(Collections.emptyList(), 0, "None", 0);
-    private final double CELL_SIZE = 30.0;
-    
+    private int[] pathCells = new int[0];
+    private WritableImage overview;
+    private int overviewBlock;
+    private Task<int[]> overviewTask;
+    private double zoom = 1.0;
+    private double viewX;
+    private double viewY;
+    private double viewWidth = 500;
+    private double viewHeight = 500;
+
     public MazePanel() {
-        setWidth(500);
-        setHeight(500);
+        mazeLayer.setManaged(false);
+        pathLayer.setManaged(false);
+        pathLayer.setMouseTransparent(true);
+        getChildren().addAll(mazeLayer, pathLayer);
     }
 
     public void setMaze(Maze maze) {
+        if (this.maze != null) {
+            this.maze.removeChangeListener(changeListener);
+        }
         this.maze = maze;
+        this.pathCells = new int[0];
+        tiles.clear();
+        overview = null;
+        if (overviewTask != null) {
+            overviewTask.cancel();
+            overviewTask = null;
+        }
         if (maze != null) {
-            setWidth(maze.getCols() * CELL_SIZE);
-            setHeight(maze.getRows() * CELL_SIZE);
+            maze.addChangeListener(changeListener);
         }
+        requestLayout();
         draw();
     }
-    
+
     public void setResult(PathResult result) {
-        this.result = result;
-        draw();
+        List<Cell> path = result == null ? Collections.emptyList() : result.getPath();
+        int[] cells = new int[path.size()];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = maze == null ? 0 : maze.index(path.get(i).getRow(), path.get(i).getCol());
+        }
+        this.pathCells = cells;
+        drawPath();
+    }
+
+    /** Tracks the scroll pane's visible area and redraws on scrolling and resizing. */
+    public void bindViewport(ScrollPane scrollPane) {
+        scrollPane.viewportBoundsProperty().addListener((obs, old, bounds) -> updateViewport(bounds));
+        scrollPane.hvalueProperty().addListener((obs, old, value) -> updateViewport(scrollPane.getViewportBounds()));
+        scrollPane.vvalueProperty().addListener((obs, old, value) -> updateViewport(scrollPane.getViewportBounds()));
+        scrollPane.addEventFilter(ScrollEvent.SCROLL, event -> {
+            if (event.isControlDown() && event.getDeltaY() != 0) {
+                setZoom(zoom * (event.getDeltaY() > 0 ? 1.25 : 0.8));
+                event.consume();
+            }
+        });
+        updateViewport(scrollPane.getViewportBounds());
+    }
+
+    public double getZoom() {
+        return zoom;
+    }
+
+    public void setZoom(double zoom) {
+        double clamped = Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, zoom));
+        if (clamped != this.zoom) {
+            this.zoom = clamped;
+            requestLayout();
+            draw();
+        }
+    }
+
+    /** Zoom at which the whole maze fits into the current viewport. */
+    public double fitZoom() {
+        if (maze == null || maze.getRows() == 0) {
+            return 1.0;
+        }
+        return Math.min(viewWidth / (maze.getCols() * CELL_SIZE), viewHeight / (maze.getRows() * CELL_SIZE));
     }
 
     public void draw() {
-        GraphicsContext gc = getGraphicsContext2D();
-        gc.clearRect(0, 0, getWidth(), getHeight());
+        drawMaze();
+        drawPath();
+    }
+
+    private void updateViewport(Bounds bounds) {
+        // The scroll pane reports the viewport in content coordinates, offset negatively.
+        viewX = Math.max(0, -bounds.getMinX());
+        viewY = Math.max(0, -bounds.getMinY());
+        viewWidth = Math.max(1, bounds.getWidth());
+        viewHeight = Math.max(1, bounds.getHeight());
+        draw();
+    }
+
+    private double cellPixels() {
+        return CELL_SIZE * zoom;
+    }
 
-        if (maze == null) {
+    private void placeLayer(Canvas layer) {
+        layer.setWidth(viewWidth);
+        layer.setHeight(viewHeight);
+        layer.relocate(viewX, viewY);
+    }
+
+    private void drawMaze() {
+        placeLayer(mazeLayer);
+        GraphicsContext gc = mazeLayer.getGraphicsContext2D();
+        gc.clearRect(0, 0, viewWidth, viewHeight);
+        if (maze == null || maze.getRows() == 0) {
+            gc.setFill(Color.BLACK);
             gc.fillText("Load Maze File to Start", 10, 20);
             return;
         }
+        gc.setImageSmoothing(false);
+        double cellPx = cellPixels();
+        if (cellPx < DETAIL_CELL_PIXELS) {
+            drawOverview(gc, cellPx);
+            return;
+        }
+        double tilePx = TILE_CELLS * cellPx;
+        int tileRows = (maze.getRows() + TILE_CELLS - 1) / TILE_CELLS;
+        int tileCols = (maze.getCols() + TILE_CELLS - 1) / TILE_CELLS;
+        int firstRow = (int) (viewY / tilePx);
+        int lastRow = Math.min(tileRows - 1, (int) ((viewY + viewHeight) / tilePx));
+        int firstCol = (int) (viewX / tilePx);
+        int lastCol = Math.min(tileCols - 1, (int) ((viewX + viewWidth) / tilePx));
+        for (int tr = firstRow; tr <= lastRow; tr++) {
+            for (int tc = firstCol; tc <= lastCol; tc++) {
+                WritableImage tile = tile(tr, tc, tileCols);
+                gc.drawImage(tile, tc * tilePx - viewX, tr * tilePx - viewY,
+                    tile.getWidth() * zoom, tile.getHeight() * zoom);
+            }
+        }
+    }
 
-        Set<Cell> pathCells = new HashSet<>(result.getPath());
+    private WritableImage tile(int tileRow, int tileCol, int tileCols) {
+        int key = tileRow * tileCols + tileCol;
+        WritableImage tile = tiles.get(key);
+        if (tile == null) {
+            tile = renderTile(tileRow, tileCol);
+            tiles.put(key, tile);
+        }
+        return tile;
+    }
 
-        for (int r = 0; r < maze.getRows(); r++) {
-            for (int c = 0; c < maze.getCols(); c++) {
-                Cell cell = maze.getCell(r, c);
-                double x = c * CELL_SIZE;
-                double y = r * CELL_SIZE;
+    /** Draws one tile at full detail on the scratch canvas and snapshots it. */
+    private WritableImage renderTile(int tileRow, int tileCol) {
+        int rowFrom = tileRow * TILE_CELLS;
+        int colFrom = tileCol * TILE_CELLS;
+        int rowTo = Math.min(maze.getRows(), rowFrom + TILE_CELLS);
+        int colTo = Math.min(maze.getCols(), colFrom + TILE_CELLS);
+        double width = (colTo - colFrom) * CELL_SIZE;
+        double height = (rowTo - rowFrom) * CELL_SIZE;
 
-                gc.setFill(Color.WHITE);
-                if (cell.isWall()) {
+        GraphicsContext gc = tileCanvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, tileCanvas.getWidth(), tileCanvas.getHeight());
+        gc.setFill(Color.WHITE);
+        gc.fillRect(0, 0, width, height);
+        gc.setStroke(Color.GRAY);
+        gc.setLineWidth(1);
+        gc.setFont(COST_FONT);
+        for (int r = rowFrom; r < rowTo; r++) {
+            for (int c = colFrom; c < colTo; c++) {
+                int index = maze.index(r, c);
+                double x = (c - colFrom) * CELL_SIZE;
+                double y = (r - rowFrom) * CELL_SIZE;
+                if (maze.isWall(index)) {
                     gc.setFill(Color.BLACK);
-                } else if (pathCells.contains(cell)) {
-                    gc.setFill(Color.LIGHTGREEN);
+                    gc.fillRect(x, y, CELL_SIZE, CELL_SIZE);
                 }
-                gc.fillRect(x, y, CELL_SIZE, CELL_SIZE);
-
-                gc.setStroke(Color.GRAY);
-                gc.setLineWidth(1);
                 gc.strokeRect(x, y, CELL_SIZE, CELL_SIZE);
 
-                gc.setFill(Color.BLACK);
-                gc.setFont(Font.font("Monospaced", CELL_SIZE * 0.4));
-                String text = "";
-                
-                if (cell.isStart()) {
+                String text;
+                if (index == maze.getStartIndex()) {
                     text = "S";
                     gc.setFill(Color.DARKGREEN);
-                } else if (cell.isGoal()) {
+                } else if (index == maze.getGoalIndex()) {
                     text = "G";
                     gc.setFill(Color.RED);
-                } else if (!cell.isWall() && cell.getTimeCost() > 0) {
-                    text = String.valueOf(cell.getTimeCost());
+                } else if (!maze.isWall(index) && maze.getCost(index) > 0) {
+                    text = String.valueOf(maze.getCost(index));
                     gc.setFill(Color.DARKBLUE);
+                } else {
+                    continue;
                 }
-
-                double textWidth = text.length() * CELL_SIZE * 0.2; 
+                double textWidth = text.length() * CELL_SIZE * 0.2;
                 gc.fillText(text, x + (CELL_SIZE - textWidth) / 2, y + CELL_SIZE / 2 + 5);
             }
         }
+        SnapshotParameters params = new SnapshotParameters();
+        params.setViewport(new Rectangle2D(0, 0, width, height));
+        return tileCanvas.snapshot(params, new WritableImage((int) width, (int) height));
+    }
+
+    private void drawOverview(GraphicsContext gc, double cellPx) {
+        if (overview == null) {
+            buildOverview();
+            return;
+        }
+        double blockPx = overviewBlock * cellPx;
+        gc.drawImage(overview,
+            viewX / blockPx, viewY / blockPx, viewWidth / blockPx, viewHeight / blockPx,
+            0, 0, viewWidth, viewHeight);
+    }
+
+    /**
+     * One pixel per block of {@code overviewBlock}^2 cells, shaded by the
+     * block's wall share, so even very large mazes fit one texture. The scan
+     * runs on a background thread; a result is dropped if the maze was
+     * replaced or edited meanwhile, and the next draw starts over.
+     */
+    private void buildOverview() {
+        if (overviewTask != null) {
+            return;
+        }
+        Maze target = maze;
+        int stamp = target.getModificationCount();
+        int rows = target.getRows();
+        int cols = target.getCols();
+        int block = Math.max(1, (Math.max(rows, cols) + MAX_OVERVIEW_PIXELS - 1) / MAX_OVERVIEW_PIXELS);
+        int height = (rows + block - 1) / block;
+        int width = (cols + block - 1) / block;
+        Task<int[]> task = new Task<>() {
+            @Override
+            protected int[] call() {
+                int[] pixels = new int[width * height];
+                for (int y = 0; y < height && !isCancelled(); y++) {
+                    for (int x = 0; x < width; x++) {
+                        pixels[y * width + x] = blockArgb(target, block, y * block, x * block);
+                    }
+                }
+                return pixels;
+            }
+        };
+        task.setOnSucceeded(e -> {
+            if (overviewTask != task) {
+                return;
+            }
+            overviewTask = null;
+            if (target.getModificationCount() == stamp) {
+                WritableImage image = new WritableImage(width, height);
+                image.getPixelWriter().setPixels(0, 0, width, height,
+                    PixelFormat.getIntArgbInstance(), task.getValue(), 0, width);
+                overview = image;
+                overviewBlock = block;
+                markEndpoints();
+            }
+            drawMaze();
+        });
+        task.setOnFailed(e -> {
+            if (overviewTask == task) {
+                overviewTask = null;
+            }
+        });
+        overviewTask = task;
+        OVERVIEW_EXECUTOR.execute(task);
+    }
+
+    private static int blockArgb(Maze maze, int block, int row, int col) {
+        int rowTo = Math.min(maze.getRows(), row + block);
+        int colTo = Math.min(maze.getCols(), col + block);
+        int walls = 0;
+        for (int r = row; r < rowTo; r++) {
+            for (int c = col; c < colTo; c++) {
+                if (maze.isWall(maze.index(r, c))) {
+                    walls++;
+                }
+            }
+        }
+        int open = (int) Math.round(255.0 * (1.0 - (double) walls / ((rowTo - row) * (colTo - col))));
+        return 0xFF000000 | open << 16 | open << 8 | open;
+    }
+
+    private void markEndpoints() {
+        PixelWriter writer = overview.getPixelWriter();
+        markEndpoint(writer, maze.getStartIndex(), Color.DARKGREEN);
+        markEndpoint(writer, maze.getGoalIndex(), Color.RED);
+    }
+
+    private void markEndpoint(PixelWriter writer, int index, Color color) {
+        if (index != Grid.NO_CELL) {
+            writer.setColor(maze.colOf(index) / overviewBlock, maze.rowOf(index) / overviewBlock, color);
+        }
+    }
+
+    private void drawPath() {
+        placeLayer(pathLayer);
+        GraphicsContext gc = pathLayer.getGraphicsContext2D();
+        gc.clearRect(0, 0, viewWidth, viewHeight);
+        if (maze == null || pathCells.length == 0) {
+            return;
+        }
+        double cellPx = cellPixels();
+        int firstRow = (int) (viewY / cellPx);
+        int lastRow = (int) ((viewY + viewHeight) / cellPx);
+        int firstCol = (int) (viewX / cellPx);
+        int lastCol = (int) ((viewX + viewWidth) / cellPx);
+        if (cellPx >= DETAIL_CELL_PIXELS) {
+            gc.setFill(PATH_FILL);
+            for (int cell : pathCells) {
+                int r = maze.rowOf(cell);
+                int c = maze.colOf(cell);
+                if (r >= firstRow && r <= lastRow && c >= firstCol && c <= lastCol) {
+                    gc.fillRect(c * cellPx - viewX, r * cellPx - viewY, cellPx, cellPx);
+                }
+            }
+            return;
+        }
+        // Zoomed out, cells are too small to fill; trace the centre line instead.
+        gc.setStroke(Color.LIMEGREEN);
+        gc.setLineWidth(Math.max(1.5, cellPx));
+        gc.beginPath();
+        for (int i = 0; i < pathCells.length; i++) {
+            double x = (maze.colOf(pathCells[i]) + 0.5) * cellPx - viewX;
+            double y = (maze.rowOf(pathCells[i]) + 0.5) * cellPx - viewY;
+            if (i == 0) {
+                gc.moveTo(x, y);
+            } else {
+                gc.lineTo(x, y);
+            }
+        }
+        gc.stroke();
+    }
+
+    private void cellsChanged(Maze changed, int[] cells) {
+        if (changed != maze) {
+            return;
+        }
+        int tileCols = (maze.getCols() + TILE_CELLS - 1) / TILE_CELLS;
+        for (int cell : cells) {
+            tiles.remove(maze.rowOf(cell) / TILE_CELLS * tileCols + maze.colOf(cell) / TILE_CELLS);
+        }
+        if (overview != null) {
+            PixelWriter writer = overview.getPixelWriter();
+            for (int cell : cells) {
+                int x = maze.colOf(cell) / overviewBlock;
+                int y = maze.rowOf(cell) / overviewBlock;
+                writer.setArgb(x, y, blockArgb(maze, overviewBlock, y * overviewBlock, x * overviewBlock));
+            }
+            markEndpoints();
+        }
+        drawMaze();
+    }
+
+    @Override
+    protected void layoutChildren() {
+        // Layers are positioned on the viewport by placeLayer, not by layout.
+    }
+
+    @Override
+    protected double computePrefWidth(double height) {
+        return maze == null ? 500 : maze.getCols() * cellPixels();
     }
 
     @Override
-    public boolean isResizable() {
-        return false;
+    protected double computePrefHeight(double width) {
+        return maze == null ? 500 : maze.getRows() * cellPixels();
     }
 
     @Override
-    public double prefWidth(double height) {
-        return getWidth();
+    protected double computeMinWidth(double height) {
+        return computePrefWidth(height);
     }
 
     @Override
-    public double prefHeight(double width) {
-        return getHeight();
+    protected double computeMinHeight(double width) {
+        return computePrefHeight(width);
     }
-}
\ No newline at end of file
+}
@@ -2,15 +2,55 @@ package th.ac.kmutt.cpe.algorithm.suntalumiti.algo;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
 
+import th.ac.kmutt.cpe.algorithm.suntalumiti.CancellationToken;
 import th.ac.kmutt.cpe.algorithm.suntalumiti.ISolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.ProgressListener;
 import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical.AStarSolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical.AnytimeAStarSolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical.BidirectionalDijkstraSolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical.BucketDijkstraSolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical.CostMatrix;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical.DeltaSteppingSolver;
 import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical.DijkstraSolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical.HeuristicProvider;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical.IndexedAStarSolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical.LandmarkHeuristic;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical.LandmarkTable;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical.LpaStarSolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.hierarchical.HierarchicalSolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.ga.GeneticConfig;
 import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.ga.GeneticSolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.ga.InitializationStrategy;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.ga.MigrationTopology;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.cli.SolverRegistry;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.metrics.MeteredSolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.metrics.MetricsRegistry;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Cell;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Grid;
 import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Maze;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.MazeGenerator;
 import th.ac.kmutt.cpe.algorithm.suntalumiti.model.PathResult;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.ReachabilityIndex;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.SearchMetrics;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -48,6 +88,364 @@ public class SolverTest {
         assertTrue(result.getPath().size() > 2, "Path length should be greater than 2 steps.");
     }
 
+    @Test
+    void testIndexedAStarSolverForOptimalCost() {
+        ISolver solver = new IndexedAStarSolver();
+        for (int run = 0; run < 3; run++) {
+            PathResult result = solver.solve(simpleMaze);
+            assertTrue(result.isFound(), "Indexed A* should find a path.");
+            assertEquals(EXPECTED_OPTIMAL_COST, result.getTotalCost(), "Indexed A* must find the expected minimum cost on run " + run + ".");
+            assertEquals(simpleMaze.getStartCell(), result.getPath().get(0));
+            assertEquals(simpleMaze.getGoalCell(), result.getPath().get(result.getPath().size() - 1));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"m15_15.txt", "m24_20.txt", "m33_35.txt", "m50_50.txt", "m80_50.txt", "m100_100.txt"})
+    void testIndexedAStarMatchesDijkstraOnBundledMazes(String mazeFile) {
+        Maze maze = new Maze(mazeFile);
+        PathResult expected = new DijkstraSolver().solve(maze);
+        PathResult actual = new IndexedAStarSolver().solve(maze);
+        assertEquals(expected.isFound(), actual.isFound());
+        assertEquals(expected.getTotalCost(), actual.getTotalCost(), "Indexed A* cost differs on " + mazeFile);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"m15_15.txt", "m30_30.txt", "m45_45.txt", "m70_60.txt", "m100_90.txt", "m100_100.txt"})
+    void testBucketDijkstraMatchesDijkstraOnBundledMazes(String mazeFile) {
+        Maze maze = new Maze(mazeFile);
+        PathResult expected = new DijkstraSolver().solve(maze);
+        for (BucketDijkstraSolver.QueueKind kind : BucketDijkstraSolver.QueueKind.values()) {
+            PathResult actual = new BucketDijkstraSolver(kind).solve(maze);
+            assertEquals(expected.isFound(), actual.isFound());
+            assertEquals(expected.getTotalCost(), actual.getTotalCost(), kind + " cost differs on " + mazeFile);
+        }
+        PathResult offHeap = new BucketDijkstraSolver(BucketDijkstraSolver.QueueKind.AUTO,
+            BucketDijkstraSolver.Storage.OFF_HEAP).solve(maze);
+        assertEquals(expected.getTotalCost(), offHeap.getTotalCost(), "Off-heap cost differs on " + mazeFile);
+        assertPathIsConsistent(maze, offHeap);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"m15_15.txt", "m30_30.txt", "m45_45.txt", "m70_60.txt", "m100_90.txt", "m100_100.txt"})
+    void testDeltaSteppingMatchesDijkstraOnBundledMazes(String mazeFile) {
+        Maze maze = new Maze(mazeFile);
+        PathResult expected = new DijkstraSolver().solve(maze);
+        for (int delta : new int[] {0, 1, 3, 1000}) {
+            PathResult actual = new DeltaSteppingSolver(1, delta).solve(maze);
+            assertEquals(expected.isFound(), actual.isFound());
+            assertEquals(expected.getTotalCost(), actual.getTotalCost(), "delta " + delta + " cost differs on " + mazeFile);
+            assertPathIsConsistent(maze, actual);
+        }
+    }
+
+    @Test
+    void testParallelDeltaSteppingMatchesDijkstraOnLargeMaze() {
+        Maze maze = new MazeGenerator(600, 600, 11L).withCosts(1, 40).generate();
+        PathResult expected = new DijkstraSolver().solve(maze);
+        for (int parallelism : new int[] {1, 4, 0}) {
+            PathResult actual = new DeltaSteppingSolver(parallelism).solve(maze);
+            assertEquals(expected.getTotalCost(), actual.getTotalCost(), "parallelism " + parallelism);
+            assertPathIsConsistent(maze, actual);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"m15_15.txt", "m24_20.txt", "m40_40.txt", "m40_45.txt", "m60_60.txt", "m100_90.txt", "m100_100.txt"})
+    void testBidirectionalDijkstraMatchesDijkstraOnBundledMazes(String mazeFile) {
+        Maze maze = new Maze(mazeFile);
+        PathResult expected = new DijkstraSolver().solve(maze);
+        PathResult actual = new BidirectionalDijkstraSolver().solve(maze);
+        assertEquals(expected.isFound(), actual.isFound());
+        assertEquals(expected.getTotalCost(), actual.getTotalCost(), "Bidirectional cost differs on " + mazeFile);
+        assertPathIsConsistent(maze, actual);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"m15_15.txt", "m30_30.txt", "m50_50.txt", "m70_60.txt", "m80_50.txt", "m100_100.txt"})
+    void testHierarchicalSolverModes(String mazeFile) {
+        Maze maze = new Maze(mazeFile);
+        PathResult expected = new DijkstraSolver().solve(maze);
+        for (int clusterSize : new int[] {4, 10, 16}) {
+            PathResult exact = new HierarchicalSolver(clusterSize, HierarchicalSolver.Mode.EXACT).solve(maze);
+            assertEquals(expected.getTotalCost(), exact.getTotalCost(), "Exact HPA* cost differs on " + mazeFile + " with clusters of " + clusterSize);
+            assertPathIsConsistent(maze, exact);
+
+            PathResult approximate = new HierarchicalSolver(clusterSize, HierarchicalSolver.Mode.APPROXIMATE).solve(maze);
+            assertTrue(approximate.isFound(), "Approximate HPA* should find a path on " + mazeFile);
+            assertTrue(approximate.getTotalCost() >= expected.getTotalCost());
+            assertPathIsConsistent(maze, approximate);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"m15_15.txt", "m33_35.txt", "m45_45.txt", "m60_60.txt", "m100_90.txt", "m100_100.txt"})
+    void testLandmarkAStarMatchesDijkstraOnBundledMazes(String mazeFile) {
+        Maze maze = new Maze(mazeFile);
+        PathResult expected = new DijkstraSolver().solve(maze);
+        for (int landmarks : new int[] {1, 4, 8}) {
+            PathResult actual = new IndexedAStarSolver(new LandmarkHeuristic(landmarks)).solve(maze);
+            assertEquals(expected.getTotalCost(), actual.getTotalCost(), "ALT cost differs on " + mazeFile + " with " + landmarks + " landmarks");
+            assertPathIsConsistent(maze, actual);
+        }
+    }
+
+    @Test
+    void testLandmarkTableSidecarRoundTrip(@TempDir Path dir) throws IOException {
+        Maze maze = new Maze("m50_50.txt");
+        Path mazePath = dir.resolve("m50_50.txt");
+        LandmarkTable computed = LandmarkTable.loadOrCompute(maze, mazePath, 6);
+        LandmarkTable loaded = LandmarkTable.load(LandmarkTable.sidecarPath(mazePath));
+
+        assertTrue(computed.isNarrow(), "Small mazes should use 16-bit tables.");
+        assertEquals(computed.getLandmarkCount(), loaded.getLandmarkCount());
+        for (int l = 0; l < computed.getLandmarkCount(); l++) {
+            assertEquals(computed.getLandmark(l), loaded.getLandmark(l));
+            for (int cell = 0; cell < maze.getCellCount(); cell++) {
+                assertEquals(computed.fromLandmark(l, cell), loaded.fromLandmark(l, cell));
+                assertEquals(computed.toLandmark(l, cell), loaded.toLandmark(l, cell));
+            }
+        }
+        assertEquals(computed.fromLandmark(0, computed.getLandmark(0)), 0);
+
+        Maze edited = new Maze("m50_50.txt");
+        int open = IntStream.range(0, edited.getCellCount())
+            .filter(i -> !edited.isWall(i) && i != edited.getStartIndex() && i != edited.getGoalIndex())
+            .findFirst().getAsInt();
+        edited.setCost(open, edited.getCost(open) == 9 ? 8 : 9);
+        assertFalse(loaded.matches(edited), "Same size, different content must not match.");
+        LandmarkTable recomputed = LandmarkTable.loadOrCompute(edited, mazePath, 6);
+        assertTrue(recomputed.matches(edited));
+        assertThrows(IllegalArgumentException.class, () -> new LandmarkHeuristic().register(edited, loaded));
+    }
+
+    @Test
+    void testTruncatedLandmarkSidecarIsRebuilt(@TempDir Path dir) throws IOException {
+        Maze maze = new Maze("m50_50.txt");
+        Path mazePath = dir.resolve("m50_50.txt");
+        Path sidecar = LandmarkTable.sidecarPath(mazePath);
+        LandmarkTable.loadOrCompute(maze, mazePath, 6);
+        byte[] full = Files.readAllBytes(sidecar);
+        for (int length : new int[] {full.length / 2, 10, 0}) {
+            Files.write(sidecar, Arrays.copyOf(full, length));
+            assertThrows(IOException.class, () -> LandmarkTable.load(sidecar));
+            LandmarkTable rebuilt = LandmarkTable.loadOrCompute(maze, mazePath, 6);
+            assertTrue(rebuilt.matches(maze), "length " + length);
+            assertArrayEquals(full, Files.readAllBytes(sidecar), "The sidecar should be rewritten.");
+        }
+    }
+
+    @Test
+    void testCostMatrixMatchesPairwiseSolves() {
+        Maze maze = new Maze("m40_45.txt");
+        Grid grid = maze.getGrid();
+        int[] open = IntStream.range(0, maze.getCellCount()).filter(i -> !grid.isWall(i)).toArray();
+        Random random = new Random(7);
+        int[] sources = random.ints(5, 0, open.length).map(i -> open[i]).toArray();
+        int[] targets = random.ints(6, 0, open.length).map(i -> open[i]).toArray();
+        targets[5] = sources[0];
+
+        CostMatrix matrix = CostMatrix.compute(maze, sources, targets, true);
+        ISolver reference = new IndexedAStarSolver();
+        for (int i = 0; i < sources.length; i++) {
+            for (int j = 0; j < targets.length; j++) {
+                Maze pair = new Maze(grid, sources[i], targets[j]);
+                PathResult expected = reference.solve(pair);
+                assertEquals(expected.getTotalCost(), matrix.cost(i, j), "cost " + i + " -> " + j);
+                if (expected.isFound()) {
+                    assertPathIsConsistent(pair, new PathResult(matrix.getPath(i, j), matrix.cost(i, j), "matrix", 0));
+                }
+            }
+        }
+        assertEquals(0, matrix.cost(0, 5));
+        assertEquals(1, matrix.getPath(0, 5).size());
+        assertThrows(IllegalStateException.class,
+            () -> CostMatrix.compute(maze, sources, targets).getPath(0, 0));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"m30_30.txt", "m50_50.txt"})
+    void testLpaStarMatchesDijkstraAfterRandomUpdates(String mazeFile) {
+        Maze maze = new Maze(mazeFile);
+        Random random = new Random(mazeFile.hashCode());
+        LpaStarSolver solver = new LpaStarSolver();
+        PathResult initial = solver.solve(maze);
+        assertEquals(new DijkstraSolver().solve(maze).getTotalCost(), initial.getTotalCost());
+        int fullExpansions = solver.getLastExpandedCount();
+
+        solver.solve(maze);
+        assertEquals(0, solver.getLastExpandedCount(), "An unchanged maze needs no work.");
+
+        int incrementalExpansions = 0;
+        for (int round = 0; round < 40; round++) {
+            maze.batchUpdate(() -> {
+                for (int edit = random.nextInt(5); edit >= 0; edit--) {
+                    int cell = random.nextInt(maze.getCellCount());
+                    if (cell == maze.getStartIndex() || cell == maze.getGoalIndex()) {
+                        continue;
+                    }
+                    if (random.nextInt(3) == 0) {
+                        maze.toggleWall(cell);
+                    } else {
+                        maze.setCost(cell, 1 + random.nextInt(9));
+                    }
+                }
+            });
+            PathResult repaired = solver.solve(maze);
+            incrementalExpansions += solver.getLastExpandedCount();
+            PathResult fresh = new DijkstraSolver().solve(maze);
+            assertEquals(fresh.getTotalCost(), repaired.getTotalCost(), "round " + round);
+            assertPathIsConsistent(maze, repaired);
+        }
+        assertTrue(incrementalExpansions < 40 * fullExpansions,
+            "Repairs should expand fewer cells than re-solving from scratch.");
+    }
+
+    @Test
+    void testReopenedWallsKeepHeuristicSearchesOptimal() {
+        String text = "#########\n"
+            + "#S\"1\"\"1\"\"1\"\"1\"\"1\"G#\n"
+            + "#######\"9\"#\n".repeat(4)
+            + "#########\n";
+        Maze maze = new Maze(new ByteArrayInputStream(text.getBytes(StandardCharsets.US_ASCII)));
+        assertEquals(5, new DijkstraSolver().solve(maze).getTotalCost());
+        maze.batchUpdate(() -> {
+            for (int c = 0; c < maze.getCols(); c++) {
+                maze.setWall(maze.index(1, c), false);
+            }
+        });
+        assertEquals(Grid.MIN_COST, maze.getCost(maze.index(1, 3)), "Reopened walls must not become free.");
+        assertThrows(IllegalArgumentException.class, () -> maze.setCost(maze.index(1, 3), 0));
+        maze.openCell(maze.index(2, 0), 4);
+        assertEquals(4, maze.getCost(maze.index(2, 0)));
+
+        int optimal = new DijkstraSolver().solve(maze).getTotalCost();
+        assertEquals(5, optimal);
+        for (String key : SolverRegistry.KEYS) {
+            if (key.equals("genetic") || key.equals("hpa-approximate")) {
+                continue;
+            }
+            PathResult result = SolverRegistry.create(key).solve(maze);
+            assertEquals(optimal, result.getTotalCost(), key);
+            assertPathIsConsistent(maze, result);
+        }
+        assertEquals(optimal, new AStarSolver().solve(maze).getTotalCost());
+        assertEquals(optimal, new AnytimeAStarSolver(HeuristicProvider.MANHATTAN, 1.0, 0.5).solve(maze).getTotalCost());
+    }
+
+    @Test
+    void testWalledOffGoalFailsWithoutSearching() {
+        Maze maze = new Maze("m30_30.txt");
+        int goal = maze.getGoalIndex();
+        List<Integer> sealed = new ArrayList<>();
+        maze.batchUpdate(() -> {
+            for (int direction = 0; direction < Grid.DIRECTION_COUNT; direction++) {
+                int neighbor = maze.getGrid().neighbor(goal, direction);
+                if (neighbor != Grid.NO_CELL) {
+                    maze.setWall(neighbor, true);
+                    sealed.add(neighbor);
+                }
+            }
+        });
+        assertFalse(ReachabilityIndex.isSolvable(maze));
+        for (String key : SolverRegistry.KEYS) {
+            PathResult result = SolverRegistry.create(key).solve(maze);
+            assertFalse(result.isFound(), key);
+            assertEquals(0, result.getMetrics().getNodesExpanded(), key);
+            assertEquals(0, result.getMetrics().getGenerations(), key);
+        }
+
+        maze.setWall(sealed.get(0), false);
+        assertTrue(ReachabilityIndex.isSolvable(maze), "Edits must invalidate the index.");
+        assertEquals(new DijkstraSolver().solve(maze).getTotalCost(), new BucketDijkstraSolver().solve(maze).getTotalCost());
+    }
+
+    @Test
+    void testSolversStopWhenCancelledFromProgress() {
+        Maze maze = new Maze("m100_100.txt");
+        for (ISolver solver : List.of(new AStarSolver(), new DijkstraSolver(), new GeneticSolver())) {
+            CancellationToken token = new CancellationToken();
+            AtomicLong reports = new AtomicLong();
+            PathResult result = solver.solve(maze, token, (done, total) -> {
+                assertTrue(done <= total);
+                reports.incrementAndGet();
+                token.cancel();
+            });
+            assertTrue(result.isCancelled(), solver.getName());
+            assertEquals(1, reports.get(), solver.getName() + " should stop at the next check.");
+        }
+    }
+
+    @Test
+    void testExpiredDeadlineAndDefaultOverload() {
+        CancellationToken expired = CancellationToken.withTimeout(Duration.ZERO);
+        assertTrue(expired.isCancelled());
+        assertTrue(new GeneticSolver().solve(simpleMaze, expired, ProgressListener.NONE).isCancelled());
+        assertTrue(new IndexedAStarSolver().solve(simpleMaze, expired, ProgressListener.NONE).isCancelled());
+
+        PathResult unbounded = new AStarSolver().solve(simpleMaze, CancellationToken.withTimeout(Duration.ofMinutes(1)), ProgressListener.NONE);
+        assertFalse(unbounded.isCancelled());
+        assertEquals(EXPECTED_OPTIMAL_COST, unbounded.getTotalCost());
+        assertThrows(UnsupportedOperationException.class, CancellationToken.NONE::cancel);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"m60_60.txt", "m100_100.txt"})
+    void testGoalDirectedSearchesExpandFewerNodesThanDijkstra(String mazeFile) {
+        Maze maze = new Maze(mazeFile);
+        SearchMetrics dijkstra = new DijkstraSolver().solve(maze).getMetrics();
+        SearchMetrics bidirectional = new BidirectionalDijkstraSolver().solve(maze).getMetrics();
+        SearchMetrics landmarks = new IndexedAStarSolver(new LandmarkHeuristic()).solve(maze).getMetrics();
+
+        assertTrue(dijkstra.getNodesExpanded() > 0);
+        assertTrue(dijkstra.getNodesPushed() >= dijkstra.getNodesExpanded());
+        assertTrue(dijkstra.getPeakOpenSize() > 0);
+        assertTrue(dijkstra.getWallNanos() > 0);
+        assertTrue(bidirectional.getNodesExpanded() < dijkstra.getNodesExpanded(),
+            "bidirectional " + bidirectional + " vs dijkstra " + dijkstra);
+        assertTrue(landmarks.getNodesExpanded() < dijkstra.getNodesExpanded(),
+            "ALT " + landmarks + " vs dijkstra " + dijkstra);
+    }
+
+    @Test
+    void testGeneticMetricsAndRegistry() throws IOException {
+        MetricsRegistry registry = new MetricsRegistry();
+        GeneticConfig config = GeneticConfig.DEFAULT.withSeed(11L).withMaxGenerations(20);
+        ISolver genetic = new MeteredSolver(new GeneticSolver(config), registry);
+        ISolver dijkstra = new MeteredSolver(new DijkstraSolver(), registry);
+        SearchMetrics metrics = genetic.solve(simpleMaze).getMetrics();
+        dijkstra.solve(simpleMaze);
+        dijkstra.solve(simpleMaze);
+
+        assertTrue(metrics.getGenerations() > 0 && metrics.getGenerations() <= 20);
+        assertEquals(config.getPopulationSize() * (metrics.getGenerations() + 1), metrics.getEvaluations());
+        assertEquals(2, registry.get(dijkstra.getName()).getSolves());
+        assertEquals(2, registry.get(dijkstra.getName()).getFound());
+        assertEquals(2, registry.get(dijkstra.getName()).getWallNanos().getCount());
+
+        StringBuilder scrape = new StringBuilder();
+        registry.writePrometheus(scrape);
+        assertTrue(scrape.toString().contains("maze_solves_total{solver=\"Dijkstra's Algorithm\"} 2"), scrape.toString());
+        assertTrue(scrape.toString().contains("maze_solve_duration_nanoseconds_count{solver=\"Dijkstra's Algorithm\"} 2"));
+    }
+
+    static void assertPathIsConsistent(Maze maze, PathResult result) {
+        if (!result.isFound()) {
+            return;
+        }
+        List<Cell> path = result.getPath();
+        assertEquals(maze.getStartCell(), path.get(0));
+        assertEquals(maze.getGoalCell(), path.get(path.size() - 1));
+        int cost = 0;
+        for (int i = 1; i < path.size(); i++) {
+            assertEquals(1, Math.abs(path.get(i).getRow() - path.get(i - 1).getRow())
+                + Math.abs(path.get(i).getCol() - path.get(i - 1).getCol()), "Path must move one cell at a time.");
+            assertFalse(path.get(i).isWall(), "Path must not enter walls.");
+            cost += path.get(i).getTimeCost();
+        }
+        assertEquals(result.getTotalCost(), cost, "Path cells must add up to the reported cost.");
+    }
+
     @Test
     void testGeneticSolverGoalReachedAndNearOptimal() {
         ISolver solver = new GeneticSolver();
@@ -58,4 +456,75 @@ public class SolverTest {
         assertTrue(result.getTotalCost() <= maxAcceptableCost, 
                    "GA cost should be reasonably close to optimal (max " + maxAcceptableCost + "). Found: " + result.getTotalCost());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testSeededGeneticSolverIsReproducibleAcrossParallelism() {
+        GeneticConfig config = GeneticConfig.DEFAULT.withSeed(20240518L).withMaxGenerations(300);
+        PathResult sequential = new GeneticSolver(config).solve(simpleMaze);
+        PathResult parallel = new GeneticSolver(config.withParallelism(4)).solve(simpleMaze);
+        PathResult repeated = new GeneticSolver(config.withParallelism(4)).solve(simpleMaze);
+
+        assertEquals(sequential.getTotalCost(), parallel.getTotalCost());
+        assertEquals(sequential.getPath(), parallel.getPath());
+        assertEquals(parallel.getPath(), repeated.getPath());
+    }
+
+    @ParameterizedTest
+    @EnumSource(MigrationTopology.class)
+    void testSeededIslandModelIsReproducibleAndFindsGoal(MigrationTopology topology) {
+        GeneticConfig config = GeneticConfig.DEFAULT.withSeed(97L).withMaxGenerations(200)
+            .withIslandCount(3).withMigrationInterval(20).withTopology(topology);
+        PathResult first = new GeneticSolver(config).solve(simpleMaze);
+        PathResult capped = new GeneticSolver(config.withParallelism(2)).solve(simpleMaze);
+
+        assertTrue(first.isFound(), "Islands should reach the goal of the simple maze.");
+        assertPathIsConsistent(simpleMaze, first);
+        assertEquals(first.getPath(), capped.getPath());
+        assertEquals(200, first.getMetrics().getGenerations());
+        assertEquals(3L * config.getPopulationSize() * 201, first.getMetrics().getEvaluations());
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = InitializationStrategy.class, names = {"GOAL_BIASED", "MIXED"})
+    void testSeededInitializationReachesGoalEarly(InitializationStrategy strategy) {
+        Maze maze = new Maze("m50_50.txt");
+        GeneticSolver solver = new GeneticSolver(GeneticConfig.DEFAULT.withSeed(5L)
+            .withMaxGenerations(20).withInitialization(strategy));
+        PathResult result = solver.solve(maze);
+
+        assertTrue(result.isFound(), strategy + " should start from goal-reaching walks.");
+        assertPathIsConsistent(maze, result);
+        long goalGeneration = result.getMetrics().getGoalGeneration();
+        assertTrue(goalGeneration >= 0 && goalGeneration <= 20);
+        assertTrue(result.getTotalCost() >= new DijkstraSolver().solve(maze).getTotalCost());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"m30_30.txt", "m100_90.txt", "m100_100.txt"})
+    void testAnytimeAStarImprovesToOptimal(String mazeFile) {
+        Maze maze = new Maze(mazeFile);
+        int optimal = new DijkstraSolver().solve(maze).getTotalCost();
+        List<PathResult> results = new ArrayList<>();
+        List<Double> bounds = new ArrayList<>();
+        PathResult last = new AnytimeAStarSolver().solveAnytime(maze, CancellationToken.NONE, (result, bound) -> {
+            results.add(result);
+            bounds.add(bound);
+        });
+
+        assertFalse(last.isCancelled());
+        assertEquals(optimal, last.getTotalCost());
+        assertEquals(1.0, bounds.get(bounds.size() - 1));
+        for (int i = 0; i < results.size(); i++) {
+            assertPathIsConsistent(maze, results.get(i));
+            assertTrue(results.get(i).getTotalCost() <= bounds.get(i) * optimal, "bound " + bounds.get(i));
+            assertTrue(bounds.get(i) <= AnytimeAStarSolver.DEFAULT_INITIAL_WEIGHT);
+            if (i > 0) {
+                assertTrue(results.get(i).getTotalCost() <= results.get(i - 1).getTotalCost());
+                assertTrue(bounds.get(i) < bounds.get(i - 1));
+            }
+        }
+        PathResult expired = new AnytimeAStarSolver().solveAnytime(maze, CancellationToken.withTimeout(Duration.ZERO),
+            AnytimeAStarSolver.ImprovementListener.NONE);
+        assertTrue(expired.isCancelled());
+    }
+}
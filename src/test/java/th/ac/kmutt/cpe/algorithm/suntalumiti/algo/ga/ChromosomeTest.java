@@ -0,0 +1,82 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.algo.ga;
+
+import org.junit.jupiter.api.Test;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Cell;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Maze;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChromosomeTest {
+
+    @Test
+    void testCrossoverTakesHeadFromThisAndTailFromOther() {
+        SplittableRandom random = new SplittableRandom(1);
+        for (int length : new int[] {1, 31, 32, 33, 100, 600}) {
+            Chromosome a = new Chromosome(length, random);
+            Chromosome b = new Chromosome(length, random);
+            for (int trial = 0; trial < 50; trial++) {
+                SplittableRandom pointSource = new SplittableRandom(trial);
+                int point = new SplittableRandom(trial).nextInt(length);
+                Chromosome child = a.crossover(b, pointSource);
+                assertEquals(length, child.length());
+                for (int i = 0; i < length; i++) {
+                    Gene expected = i < point ? a.getGene(i) : b.getGene(i);
+                    assertEquals(expected, child.getGene(i), "length " + length + ", point " + point + ", gene " + i);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testGeneListRoundTrip() {
+        Chromosome original = new Chromosome(77, new SplittableRandom(3));
+        List<Gene> genes = original.getGenes();
+        assertEquals(genes, new Chromosome(genes).getGenes());
+    }
+
+    @Test
+    void testMutationRateBounds() {
+        Chromosome chromosome = new Chromosome(600, new SplittableRandom(5));
+        List<Gene> before = chromosome.getGenes();
+        chromosome.mutate(0.0, new SplittableRandom(6));
+        assertEquals(before, chromosome.getGenes());
+
+        int changed = 0;
+        chromosome.mutate(0.5, new SplittableRandom(7));
+        List<Gene> after = chromosome.getGenes();
+        for (int i = 0; i < before.size(); i++) {
+            if (before.get(i) != after.get(i)) changed++;
+        }
+        // Half the genes are redrawn and a redraw keeps the old move a quarter of the time.
+        assertTrue(changed > 150 && changed < 300, "Unexpected number of changed genes: " + changed);
+    }
+
+    @Test
+    void testLazyPathMatchesEvaluatedCost() {
+        Maze maze = new Maze(getClass().getResourceAsStream("/data/test_maze_simple.txt"));
+        SplittableRandom random = new SplittableRandom(11);
+        for (int i = 0; i < 200; i++) {
+            Chromosome chromosome = new Chromosome(600, random);
+            chromosome.evaluate(maze);
+            List<Cell> path = chromosome.getPath();
+            assertEquals(maze.getStartCell(), path.get(0));
+            if (chromosome.isGoalReached()) {
+                int cost = 0;
+                for (Cell cell : path.subList(1, path.size())) {
+                    cost += cell.getTimeCost();
+                }
+                assertEquals(chromosome.getTotalCost(), cost);
+                assertEquals(maze.getGoalCell(), path.get(path.size() - 1));
+            }
+            for (int step = 1; step < path.size(); step++) {
+                Cell previous = path.get(step - 1);
+                Cell current = path.get(step);
+                assertEquals(1, Math.abs(previous.getRow() - current.getRow()) + Math.abs(previous.getCol() - current.getCol()));
+                assertFalse(current.isWall());
+            }
+        }
+    }
+}
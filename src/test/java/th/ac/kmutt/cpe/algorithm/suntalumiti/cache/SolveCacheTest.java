@@ -0,0 +1,203 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import th.ac.kmutt.cpe.algorithm.suntalumiti.CancellationToken;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.ISolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical.DijkstraSolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.hierarchical.HierarchicalSolver;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.Maze;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.PathResult;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.model.SearchMetrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SolveCacheTest {
+
+    private static Maze load(String name) {
+        return new Maze(SolveCacheTest.class.getResourceAsStream("/data/" + name));
+    }
+
+    @Test
+    void testReloadedMazeHitsCache() {
+        SolveCache cache = new SolveCache();
+        ISolver solver = new CachingSolver(new DijkstraSolver(), cache);
+
+        PathResult first = solver.solve(load("test_maze_simple.txt"));
+        PathResult second = solver.solve(load("test_maze_simple.txt"));
+
+        assertSame(first, second);
+        assertEquals(1, cache.stats().getHits());
+        assertEquals(1, cache.stats().getMisses());
+        assertThrows(UnsupportedOperationException.class, () -> second.getPath().clear());
+    }
+
+    @Test
+    void testDifferentMazesAndSolversDoNotCollide() {
+        Maze simple = load("test_maze_simple.txt");
+        Maze other = load("m24_20.txt");
+        assertNotEquals(simple.getContentHash(), other.getContentHash());
+
+        SolveCache cache = new SolveCache();
+        AtomicInteger calls = new AtomicInteger();
+        cache.get(simple, "a", () -> counted(calls, simple));
+        cache.get(simple, "b", () -> counted(calls, simple));
+        cache.get(other, "a", () -> counted(calls, other));
+        assertEquals(3, calls.get());
+        assertEquals(3, cache.stats().getEntries());
+    }
+
+    @Test
+    void testSameNamedSolversWithDifferentConfigurationsDoNotCollide() {
+        Maze maze = load("m100_100.txt");
+        SolveCache cache = new SolveCache();
+        HierarchicalSolver coarse = new HierarchicalSolver(8, HierarchicalSolver.Mode.APPROXIMATE);
+        HierarchicalSolver fine = new HierarchicalSolver(16, HierarchicalSolver.Mode.APPROXIMATE);
+        assertEquals(coarse.getName(), fine.getName());
+
+        PathResult first = new CachingSolver(coarse, cache).solve(maze);
+        PathResult second = new CachingSolver(fine, cache).solve(maze);
+        assertNotSame(first, second);
+        assertEquals(2, cache.stats().getMisses());
+        assertSame(first, new CachingSolver(coarse, cache).solve(maze), "The same solver instance still hits.");
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsed() {
+        Maze maze = load("test_maze_simple.txt");
+        SolveCache cache = new SolveCache(2, Long.MAX_VALUE);
+        AtomicInteger calls = new AtomicInteger();
+        cache.get(maze, "a", () -> counted(calls, maze));
+        cache.get(maze, "b", () -> counted(calls, maze));
+        cache.get(maze, "a", () -> counted(calls, maze));
+        cache.get(maze, "c", () -> counted(calls, maze));
+        assertEquals(3, calls.get());
+        assertEquals(1, cache.stats().getEvictions());
+
+        cache.get(maze, "a", () -> counted(calls, maze));
+        assertEquals(3, calls.get(), "recently used entry must survive");
+        cache.get(maze, "b", () -> counted(calls, maze));
+        assertEquals(4, calls.get(), "least recently used entry must be evicted");
+    }
+
+    @Test
+    void testMemoryBoundEvicts() {
+        Maze maze = load("test_maze_simple.txt");
+        PathResult result = new DijkstraSolver().solve(maze);
+        SolveCache cache = new SolveCache(100, 1000 + result.getPath().size() * 40L);
+        cache.get(maze, "a", () -> result);
+        cache.get(maze, "b", () -> result);
+        assertEquals(1, cache.stats().getEntries());
+        assertTrue(cache.stats().getEstimatedBytes() <= 1000 + result.getPath().size() * 40L);
+    }
+
+    @Test
+    void testConcurrentRequestsShareOneSolve() throws Exception {
+        Maze maze = load("test_maze_simple.txt");
+        SolveCache cache = new SolveCache();
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            Future<?>[] futures = new Future<?>[8];
+            for (int i = 0; i < futures.length; i++) {
+                futures[i] = pool.submit(() -> cache.get(maze, "slow", () -> {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return counted(calls, maze);
+                }));
+            }
+            Thread.sleep(50);
+            release.countDown();
+            for (Future<?> f : futures) {
+                assertTrue(((PathResult) f.get()).isFound());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(1, calls.get());
+        assertEquals(7, cache.stats().getHits());
+    }
+
+    @Test
+    void testCancelledSolveIsNotSharedWithConcurrentCallers() throws Exception {
+        Maze maze = load("test_maze_simple.txt");
+        SolveCache cache = new SolveCache();
+        CancellationToken ownerToken = new CancellationToken();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<PathResult> owner = pool.submit(() -> cache.get(maze, "slow", ownerToken, () -> {
+                started.countDown();
+                awaitQuietly(release);
+                return ownerToken.isCancelled()
+                    ? PathResult.cancelled(Collections.emptyList(), Integer.MAX_VALUE, "slow", SearchMetrics.NONE)
+                    : new DijkstraSolver().solve(maze);
+            }));
+            started.await();
+            Future<PathResult> other = pool.submit(() -> cache.get(maze, "slow", () -> new DijkstraSolver().solve(maze)));
+            ownerToken.cancel();
+            release.countDown();
+
+            assertTrue(owner.get().isCancelled());
+            assertFalse(other.get().isCancelled(), "Another caller's cancellation must not leak into this result.");
+            assertTrue(other.get().isFound());
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(1, cache.stats().getEntries());
+    }
+
+    @Test
+    void testWaiterStopsWaitingWhenItsOwnTokenIsCancelled() throws Exception {
+        Maze maze = load("test_maze_simple.txt");
+        SolveCache cache = new SolveCache();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(1);
+        try {
+            Future<PathResult> owner = pool.submit(() -> cache.get(maze, "slow", () -> {
+                started.countDown();
+                awaitQuietly(release);
+                return new DijkstraSolver().solve(maze);
+            }));
+            started.await();
+            CancellationToken waiterToken = CancellationToken.withTimeout(Duration.ofMillis(50));
+            PathResult waited = cache.get(maze, "slow", waiterToken,
+                () -> PathResult.cancelled(Collections.emptyList(), Integer.MAX_VALUE, "slow", SearchMetrics.NONE));
+            assertTrue(waited.isCancelled());
+            assertFalse(owner.isDone(), "The waiter must return while the shared solve is still running.");
+
+            release.countDown();
+            assertFalse(owner.get().isCancelled());
+            assertSame(owner.get(), cache.get(maze, "slow", waiterToken, () -> fail("should hit")));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static PathResult counted(AtomicInteger calls, Maze maze) {
+        calls.incrementAndGet();
+        return new DijkstraSolver().solve(maze);
+    }
+}
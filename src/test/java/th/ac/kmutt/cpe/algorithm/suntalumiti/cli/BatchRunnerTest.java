@@ -0,0 +1,62 @@
+package th.ac.kmutt.cpe.algorithm.suntalumiti.cli;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BatchRunnerTest {
+
+    private static void copyResource(String name, Path target) throws IOException {
+        try (InputStream is = BatchRunnerTest.class.getResourceAsStream("/data/" + name)) {
+            Files.copy(is, target);
+        }
+    }
+
+    @Test
+    void testCsvOutputCoversEveryMazeAndSolver(@TempDir Path dir) throws Exception {
+        copyResource("test_maze_simple.txt", dir.resolve("simple.txt"));
+        copyResource("m30_30.txt", dir.resolve("m30_30.txt"));
+        Files.writeString(dir.resolve("broken.txt"), "#S?G#\n");
+        Files.writeString(dir.resolve("notes.md"), "ignored");
+
+        StringWriter out = new StringWriter();
+        BatchRunner runner = new BatchRunner(List.of("astar-indexed", "dijkstra"), 2, 1, BatchRunner.Format.CSV, out);
+        assertEquals(3, runner.run(dir));
+
+        List<String> lines = out.toString().lines().toList();
+        assertEquals(BatchRunner.CSV_HEADER, lines.get(0));
+        assertEquals(1 + 2 + 2 + 1, lines.size());
+        assertTrue(lines.stream().anyMatch(l -> l.startsWith("simple.txt,dijkstra,true,124,")));
+        assertTrue(lines.stream().anyMatch(l -> l.startsWith("broken.txt,,false,") && !l.endsWith(",")));
+    }
+
+    @Test
+    void testJsonLines(@TempDir Path dir) throws Exception {
+        copyResource("test_maze_simple.txt", dir.resolve("simple.txt"));
+        StringWriter out = new StringWriter();
+        new BatchRunner(List.of("astar"), 1, 4, BatchRunner.Format.JSON, out).run(dir);
+        String line = out.toString().trim();
+        assertTrue(line.startsWith("{\"file\":\"simple.txt\",\"solver\":\"astar\",\"found\":true,\"cost\":124,"), line);
+        assertTrue(line.endsWith(",\"error\":null}"), line);
+    }
+
+    @Test
+    void testRejectsUnknownSolver() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new BatchRunner(List.of("nope"), 1, 1, BatchRunner.Format.CSV, new StringWriter()));
+    }
+
+    @Test
+    void testEscaping() {
+        assertEquals("\"a,\"\"b\"\"\"", BatchRunner.csvField("a,\"b\""));
+        assertEquals("\"x\\\"y\\\\\\n\"", BatchRunner.jsonString("x\"y\\\n"));
+    }
+}
@@ -1,9 +1,27 @@
 package th.ac.kmutt.cpe.algorithm.suntalumiti.model;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import th.ac.kmutt.cpe.algorithm.suntalumiti.algo.classical.DijkstraSolver;
 import static org.junit.jupiter.api.Assertions.*;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
+import java.util.stream.IntStream;
 
 public class MazeTest {
     private Maze createMaze() {
@@ -64,4 +82,282 @@ public class MazeTest {
         assertNotNull(wallCell);
         assertFalse(maze.isValid(wallCell.getRow(), wallCell.getCol()), "Wall cell should be invalid for movement.");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testIndexApiMatchesCells() {
+        Maze maze = createMaze();
+        assertEquals(maze.getRows() * maze.getCols(), maze.getCellCount());
+        assertEquals(maze.index(0, 0), maze.getStartIndex());
+        assertEquals(maze.index(12, 12), maze.getGoalIndex());
+        for (int r = 0; r < maze.getRows(); r++) {
+            for (int c = 0; c < maze.getCols(); c++) {
+                int index = maze.index(r, c);
+                Cell cell = maze.getCell(r, c);
+                assertEquals(r, maze.rowOf(index));
+                assertEquals(c, maze.colOf(index));
+                assertEquals(cell.isWall(), maze.isWall(index));
+                assertEquals(cell, maze.getCell(index));
+                if (!cell.isWall()) {
+                    assertEquals(cell.getTimeCost(), maze.getCost(index));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testGridNeighbors() {
+        Maze maze = createMaze();
+        Grid grid = maze.getGrid();
+        int start = maze.getStartIndex();
+        assertEquals(Grid.NO_CELL, grid.neighbor(start, 1), "Left of start is off the grid.");
+        assertEquals(Grid.NO_CELL, grid.neighbor(start, 3), "Above start is off the grid.");
+        assertEquals(maze.index(1, 0), grid.neighbor(start, 2));
+        assertEquals(Grid.NO_CELL, grid.neighbor(start, 0), "Cell (0, 1) is a wall.");
+    }
+
+    private static Maze parse(String text) throws IOException {
+        return MazeParser.parse(Channels.newChannel(new ByteArrayInputStream(text.getBytes(StandardCharsets.US_ASCII))));
+    }
+
+    @Test
+    void testLoadFromPathMatchesStreamLoading() throws IOException, URISyntaxException {
+        Path path = Path.of(Objects.requireNonNull(getClass().getResource("/data/test_maze_simple.txt")).toURI());
+        Maze fromPath = Maze.load(path);
+        Maze fromStream = createMaze();
+        assertEquals(fromStream.getRows(), fromPath.getRows());
+        assertEquals(fromStream.getCols(), fromPath.getCols());
+        assertEquals(fromStream.getStartIndex(), fromPath.getStartIndex());
+        assertEquals(fromStream.getGoalIndex(), fromPath.getGoalIndex());
+        for (int i = 0; i < fromStream.getCellCount(); i++) {
+            assertEquals(fromStream.isWall(i), fromPath.isWall(i));
+            assertEquals(fromStream.getCost(i), fromPath.getCost(i));
+        }
+    }
+
+    @Test
+    void testParserHandlesBordersAndCrLf() throws IOException {
+        Maze maze = parse("#####\r\n#S\"12\"##\r\n#\"3\"#G#\r\n#####");
+        assertEquals(2, maze.getRows());
+        assertEquals(3, maze.getCols());
+        assertEquals(12, maze.getCost(maze.index(0, 1)));
+        assertTrue(maze.isWall(maze.index(0, 2)));
+        assertEquals(maze.index(1, 2), maze.getGoalIndex());
+    }
+
+    @Test
+    void testParserReportsNonUniformRows() {
+        MazeFormatException e = assertThrows(MazeFormatException.class, () -> parse("#S\"1\"\"2\"#\n#\"1\"G#\n"));
+        assertEquals(2, e.getLine());
+        assertTrue(e.getReason().contains("expected 3"), e.getReason());
+    }
+
+    @Test
+    void testParserReportsUnexpectedCharacter() {
+        MazeFormatException e = assertThrows(MazeFormatException.class, () -> parse("#S\"1\"x#\n"));
+        assertEquals(1, e.getLine());
+        assertEquals(6, e.getColumn());
+    }
+
+    @Test
+    void testParserRejectsZeroCostCells() {
+        MazeFormatException e = assertThrows(MazeFormatException.class, () -> parse("#S\"0\"G#\n"));
+        assertEquals(4, e.getColumn());
+    }
+
+    private static void assertSameMaze(Maze expected, Maze actual) {
+        assertEquals(expected.getRows(), actual.getRows());
+        assertEquals(expected.getCols(), actual.getCols());
+        assertEquals(expected.getStartIndex(), actual.getStartIndex());
+        assertEquals(expected.getGoalIndex(), actual.getGoalIndex());
+        for (int i = 0; i < expected.getCellCount(); i++) {
+            assertEquals(expected.isWall(i), actual.isWall(i), "Wall mismatch at " + i);
+            if (!expected.isWall(i)) {
+                assertEquals(expected.getCost(i), actual.getCost(i), "Cost mismatch at " + i);
+            }
+        }
+    }
+
+    @Test
+    void testBinaryFormatRoundTrip(@TempDir Path dir) throws IOException {
+        Maze original = new Maze("m100_90.txt");
+        Path binary = dir.resolve("m100_90" + MazeBinaryFormat.FILE_EXTENSION);
+        MazeBinaryFormat.write(original, binary);
+
+        Maze mapped = MazeBinaryFormat.open(binary, true);
+        assertSameMaze(original, mapped);
+        assertTrue(mapped.getGrid() instanceof BufferGrid);
+        assertEquals(4, ((BufferGrid) mapped.getGrid()).getCostBits(), "Costs up to 10 should pack into nibbles.");
+        assertThrows(UnsupportedOperationException.class, () -> mapped.getGrid().setCost(0, 1));
+        assertSameMaze(original, Maze.load(binary));
+    }
+
+    @Test
+    void testBinaryFormatDetectsCorruption(@TempDir Path dir) throws IOException {
+        Path binary = dir.resolve("simple.mzb");
+        MazeBinaryFormat.write(createMaze(), binary);
+        try (var channel = Files.newByteChannel(binary, StandardOpenOption.WRITE)) {
+            channel.position(MazeBinaryFormat.HEADER_SIZE + 3);
+            channel.write(ByteBuffer.wrap(new byte[] {0x7F}));
+        }
+        MazeFormatException e = assertThrows(MazeFormatException.class, () -> MazeBinaryFormat.open(binary, true));
+        assertTrue(e.getReason().contains("checksum"));
+    }
+
+    @Test
+    void testTextWriterRoundTrip(@TempDir Path dir) throws IOException {
+        Maze original = createMaze();
+        Path text = dir.resolve("simple.txt");
+        MazeWriter.write(original, text);
+        assertSameMaze(original, Maze.load(text));
+    }
+
+    @Test
+    void testMutationNotifiesListenersAndChangesHash() {
+        Maze maze = createMaze();
+        long hash = maze.getContentHash();
+        List<int[]> notifications = new ArrayList<>();
+        maze.addChangeListener((m, cells) -> notifications.add(cells));
+
+        int open = maze.index(0, 2);
+        assertFalse(maze.isWall(open));
+        maze.setWall(open, true);
+        assertTrue(maze.isWall(open));
+        assertFalse(maze.isValid(0, 2));
+        assertNotEquals(hash, maze.getContentHash());
+
+        maze.batchUpdate(() -> {
+            maze.setWall(open, false);
+            maze.setCost(open, 7);
+            maze.setCost(open, 7);
+        });
+        assertEquals(7, maze.getCell(open).getTimeCost());
+        assertEquals(2, notifications.size(), "A batch should notify once.");
+        assertArrayEquals(new int[] {open, open}, notifications.get(1));
+        assertEquals(3, maze.getModificationCount());
+
+        assertEquals(maze.getGrid().maxCost(), maze.getMaxCost());
+        maze.setCost(open, Grid.MAX_COST);
+        assertEquals(Grid.MAX_COST, maze.getMaxCost(), "Edits must refresh the cached max cost.");
+        maze.setCost(open, 7);
+        assertEquals(maze.getGrid().maxCost(), maze.getMaxCost());
+
+        assertThrows(IllegalArgumentException.class, () -> maze.setWall(maze.getStartIndex(), true));
+        assertThrows(IllegalArgumentException.class, () -> maze.setCost(open, Grid.MAX_COST + 1));
+    }
+
+    @Test
+    void testGeneratorIsDeterministicAcrossFormats(@TempDir Path dir) throws IOException {
+        MazeGenerator generator = new MazeGenerator(37, 53, 99L).withCosts(1, 40);
+        Path text = dir.resolve("generated.txt");
+        Path binary = dir.resolve("generated" + MazeBinaryFormat.FILE_EXTENSION);
+        generator.write(text);
+        generator.write(binary);
+        Maze inMemory = generator.generate();
+        Maze fromText = Maze.load(text);
+        Maze fromBinary = Maze.load(binary);
+
+        assertEquals(inMemory.getContentHash(), fromText.getContentHash());
+        assertEquals(inMemory.getContentHash(), fromBinary.getContentHash());
+        assertEquals(inMemory.getGoalIndex(), fromText.getGoalIndex());
+        assertEquals(inMemory.getContentHash(), new MazeGenerator(37, 53, 99L).withCosts(1, 40).generate().getContentHash());
+        assertNotEquals(inMemory.getContentHash(), generator.withSeed(100L).generate().getContentHash());
+    }
+
+    @Test
+    void testOffHeapGridMatchesHeapGridAndClosesOnce() throws InterruptedException {
+        MazeGenerator generator = new MazeGenerator(41, 67, 7L).withCosts(1, 200);
+        Maze onHeap = generator.generate();
+        Maze offHeap = generator.generateOffHeap();
+        BufferGrid grid = (BufferGrid) offHeap.getGrid();
+        assertEquals(8, grid.getCostBits());
+        assertEquals(onHeap.getContentHash(), offHeap.getContentHash());
+        assertEquals(new DijkstraSolver().solve(onHeap).getTotalCost(), new DijkstraSolver().solve(offHeap).getTotalCost());
+
+        Grid.Lease lease = grid.acquire();
+        Thread closer = new Thread(grid::close);
+        closer.start();
+        closer.join(200);
+        assertTrue(closer.isAlive(), "close() must wait for the running reader.");
+        assertEquals(onHeap.getCost(1), grid.getCost(1));
+        lease.close();
+        closer.join(5000);
+        assertFalse(closer.isAlive());
+
+        assertThrows(IllegalStateException.class, () -> grid.getCost(1));
+        assertThrows(IllegalStateException.class, grid::acquire);
+        assertThrows(IllegalStateException.class, () -> new DijkstraSolver().solve(offHeap));
+        grid.close();
+    }
+
+    @ParameterizedTest
+    @EnumSource(MazeGenerator.Style.class)
+    void testReachabilityIndexMatchesFloodFill(MazeGenerator.Style style) {
+        Maze maze = new MazeGenerator(70, 90, 3L).withStyle(style).withWallDensity(0.45).generate();
+        Grid grid = maze.getGrid();
+        ReachabilityIndex index = ReachabilityIndex.of(maze);
+        int[] label = new int[grid.size()];
+        Arrays.fill(label, ReachabilityIndex.NO_COMPONENT);
+        int components = 0;
+        for (int seed = 0; seed < grid.size(); seed++) {
+            if (grid.isWall(seed) || label[seed] != ReachabilityIndex.NO_COMPONENT) {
+                continue;
+            }
+            ArrayDeque<Integer> queue = new ArrayDeque<>(List.of(seed));
+            label[seed] = components;
+            long size = 0;
+            while (!queue.isEmpty()) {
+                int cell = queue.poll();
+                size++;
+                assertEquals(index.component(seed), index.component(cell), style + " cell " + cell);
+                for (int direction = 0; direction < Grid.DIRECTION_COUNT; direction++) {
+                    int next = grid.neighbor(cell, direction);
+                    if (next != Grid.NO_CELL && label[next] == ReachabilityIndex.NO_COMPONENT) {
+                        label[next] = components;
+                        queue.add(next);
+                    }
+                }
+            }
+            assertEquals(size, index.componentSize(index.component(seed)));
+            components++;
+        }
+        assertEquals(components, index.getComponentCount());
+        assertTrue(ReachabilityIndex.isSolvable(maze));
+        assertSame(index, ReachabilityIndex.of(maze), "Unedited mazes reuse the index.");
+        SearchMetrics.Probe probe = SearchMetrics.start();
+        for (int i = 0; i < 10_000; i++) {
+            ReachabilityIndex.of(maze);
+        }
+        long allocated = probe.search(0, 0, 0, 0).getAllocatedBytes();
+        assertTrue(allocated < 10_000, "Cached lookups must not allocate: " + allocated + " B");
+
+        int open = 0;
+        while (grid.isWall(open) || open == maze.getStartIndex() || open == maze.getGoalIndex()) {
+            open++;
+        }
+        maze.setCost(open, maze.getCost(open) % Grid.MAX_COST + 1);
+        assertSame(index, ReachabilityIndex.of(maze), "Cost edits keep the index.");
+        maze.setWall(open, true);
+        assertNotSame(index, ReachabilityIndex.of(maze), "Wall edits rebuild the index.");
+        assertEquals(ReachabilityIndex.NO_COMPONENT, ReachabilityIndex.of(maze).component(open));
+    }
+
+    @ParameterizedTest
+    @EnumSource(MazeGenerator.Style.class)
+    void testGeneratedMazesAreSolvableAndInRange(MazeGenerator.Style style) {
+        for (MazeGenerator.CostDistribution distribution : MazeGenerator.CostDistribution.values()) {
+            for (long seed = 1; seed <= 5; seed++) {
+                Maze maze = new MazeGenerator(60, 90, seed).withStyle(style).withWallDensity(0.45)
+                    .withCosts(3, 12).withCostDistribution(distribution).generate();
+                assertTrue(new DijkstraSolver().solve(maze).isFound(), style + " seed " + seed);
+                for (int i = 0; i < maze.getCellCount(); i++) {
+                    if (!maze.isWall(i) && i != maze.getStartIndex() && i != maze.getGoalIndex()) {
+                        assertTrue(maze.getCost(i) >= 3 && maze.getCost(i) <= 12);
+                    }
+                }
+            }
+        }
+        Maze scattered = new MazeGenerator(200, 200, 5L).withWallDensity(0.3).generate();
+        long walls = IntStream.range(0, scattered.getCellCount()).filter(scattered::isWall).count();
+        assertEquals(0.3, (double) walls / scattered.getCellCount(), 0.03);
+    }
+}